@@ -0,0 +1,37 @@
+-- The query shapes Hibernate generates for GET /api/tasks (page 0, size 10, sortBy=id),
+-- one page query and one count query per filter combination. Included by task-filter-plans.sql.
+
+\echo '--- no filter'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM tasks ORDER BY id LIMIT 10;
+EXPLAIN (ANALYZE, BUFFERS) SELECT count(id) FROM tasks;
+
+\echo '--- status'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM tasks WHERE status = 'TODO' ORDER BY id LIMIT 10;
+EXPLAIN (ANALYZE, BUFFERS) SELECT count(id) FROM tasks WHERE status = 'TODO';
+
+\echo '--- priority'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM tasks WHERE priority = 'HIGH' ORDER BY id LIMIT 10;
+EXPLAIN (ANALYZE, BUFFERS) SELECT count(id) FROM tasks WHERE priority = 'HIGH';
+
+\echo '--- status + priority'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM tasks WHERE status = 'TODO' AND priority = 'HIGH' ORDER BY id LIMIT 10;
+EXPLAIN (ANALYZE, BUFFERS) SELECT count(id) FROM tasks WHERE status = 'TODO' AND priority = 'HIGH';
+
+\echo '--- projectId'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM tasks WHERE project_id = 42 ORDER BY id LIMIT 10;
+EXPLAIN (ANALYZE, BUFFERS) SELECT count(id) FROM tasks WHERE project_id = 42;
+
+\echo '--- projectId + status'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM tasks WHERE project_id = 42 AND status = 'TODO' ORDER BY id LIMIT 10;
+EXPLAIN (ANALYZE, BUFFERS) SELECT count(id) FROM tasks WHERE project_id = 42 AND status = 'TODO';
+
+\echo '--- projectId + priority'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM tasks WHERE project_id = 42 AND priority = 'HIGH' ORDER BY id LIMIT 10;
+EXPLAIN (ANALYZE, BUFFERS) SELECT count(id) FROM tasks WHERE project_id = 42 AND priority = 'HIGH';
+
+\echo '--- projectId + status + priority'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM tasks WHERE project_id = 42 AND status = 'TODO' AND priority = 'HIGH' ORDER BY id LIMIT 10;
+EXPLAIN (ANALYZE, BUFFERS) SELECT count(id) FROM tasks WHERE project_id = 42 AND status = 'TODO' AND priority = 'HIGH';
+
+\echo '--- projectId + status, keyset page deep into the list'
+EXPLAIN (ANALYZE, BUFFERS) SELECT * FROM tasks WHERE project_id = 42 AND status = 'TODO' AND id > 4000000 ORDER BY id LIMIT 10;
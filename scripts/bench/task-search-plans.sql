@@ -0,0 +1,70 @@
+-- Plan/latency benchmark for GET /api/tasks/search on a 5M-row table.
+--
+-- Usage (against a migrated PostgreSQL database; everything happens in a throwaway "bench" schema):
+--   psql -d taskmanager -f scripts/bench/task-search-plans.sql > bench_output.txt
+--
+-- Titles and descriptions are drawn from a 2000-word vocabulary (word1 .. word2000) with a skewed (roughly
+-- Zipf-like) distribution, so the queries below cover rare, medium and very common terms.
+-- Each query is the exact shape TaskSearchService sends for the first page (size 10),
+-- run once without and once with the V5 GIN index. Look for Bitmap Index Scan on
+-- idx_tasks_search_vector and the Execution Time lines; the rows that have to be ranked
+-- are the matches of the tsquery (after the status/priority/project filters).
+
+\timing on
+\set ON_ERROR_STOP on
+
+DROP SCHEMA IF EXISTS bench CASCADE;
+CREATE SCHEMA bench;
+SET search_path = bench;
+
+CREATE TABLE projects (LIKE public.projects INCLUDING DEFAULTS INCLUDING IDENTITY);
+ALTER TABLE projects ADD PRIMARY KEY (id);
+-- LIKE copies the generated search_vector column along with its expression
+CREATE TABLE tasks (LIKE public.tasks INCLUDING DEFAULTS INCLUDING IDENTITY INCLUDING GENERATED);
+ALTER TABLE tasks ADD PRIMARY KEY (id);
+ALTER TABLE tasks ADD FOREIGN KEY (project_id) REFERENCES projects (id);
+
+INSERT INTO projects (name, created_at, updated_at)
+SELECT 'project ' || g, now(), now()
+FROM generate_series(1, 1000) g;
+
+-- k words from word1 .. word2000, word<n> picked with probability falling off like 1/n
+CREATE FUNCTION words(k int) RETURNS text VOLATILE LANGUAGE sql AS $$
+    SELECT string_agg('word' || floor(exp(random() * ln(2000)))::int, ' ') FROM generate_series(1, k)
+$$;
+
+SELECT setseed(0.42);
+
+-- 5M tasks: 4-word titles, 12-word descriptions (10% without one), ~10% without a project
+INSERT INTO tasks (id, title, description, status, priority, project_id, created_at, updated_at, version)
+SELECT g,
+       words(4),
+       CASE WHEN g % 10 = 0 THEN NULL ELSE words(12) END,
+       (ARRAY['TODO', 'IN_PROGRESS', 'DONE'])[1 + g % 3],
+       (ARRAY['LOW', 'MEDIUM', 'HIGH'])[1 + (g / 3) % 3],
+       CASE WHEN g % 10 = 0 THEN NULL ELSE 1 + g % 1000 END,
+       now() - (g || ' seconds')::interval,
+       now(),
+       0
+FROM generate_series(1, 5000000) g;
+
+VACUUM ANALYZE projects;
+VACUUM ANALYZE tasks;
+
+\echo '--- how many tasks each benchmark term matches'
+SELECT term, count(*) AS matches
+FROM (VALUES ('word1500'), ('word200'), ('word20'), ('word2')) AS terms(term)
+JOIN tasks ON search_vector @@ websearch_to_tsquery('english', term)
+GROUP BY term ORDER BY 2;
+
+\echo '=============== BEFORE: no full-text index ==============='
+\ir task-search-queries.sql
+
+CREATE INDEX idx_tasks_search_vector ON tasks USING GIN (search_vector);
+VACUUM ANALYZE tasks;
+
+\echo '=============== AFTER: V5 GIN index ==============='
+\ir task-search-queries.sql
+
+RESET search_path;
+DROP SCHEMA bench CASCADE;
@@ -0,0 +1,59 @@
+-- The statements TaskSearchService runs for GET /api/tasks/search (size 10, so LIMIT 11).
+-- Included by task-search-plans.sql.
+
+\echo '--- rare term (q=word1500)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, m.rank FROM (
+    SELECT t.id, ts_rank(t.search_vector, q.query) AS rank
+    FROM tasks t, websearch_to_tsquery('english', 'word1500') AS q(query)
+    WHERE t.search_vector @@ q.query) m
+ORDER BY m.rank DESC, m.id LIMIT 11;
+
+\echo '--- medium term (q=word200)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, m.rank FROM (
+    SELECT t.id, ts_rank(t.search_vector, q.query) AS rank
+    FROM tasks t, websearch_to_tsquery('english', 'word200') AS q(query)
+    WHERE t.search_vector @@ q.query) m
+ORDER BY m.rank DESC, m.id LIMIT 11;
+
+\echo '--- two terms, ANDed (q=word20 word200)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, m.rank FROM (
+    SELECT t.id, ts_rank(t.search_vector, q.query) AS rank
+    FROM tasks t, websearch_to_tsquery('english', 'word20 word200') AS q(query)
+    WHERE t.search_vector @@ q.query) m
+ORDER BY m.rank DESC, m.id LIMIT 11;
+
+\echo '--- phrase (q="word20 word2")'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, m.rank FROM (
+    SELECT t.id, ts_rank(t.search_vector, q.query) AS rank
+    FROM tasks t, websearch_to_tsquery('english', '"word20 word2"') AS q(query)
+    WHERE t.search_vector @@ q.query) m
+ORDER BY m.rank DESC, m.id LIMIT 11;
+
+\echo '--- medium term + projectId + status'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, m.rank FROM (
+    SELECT t.id, ts_rank(t.search_vector, q.query) AS rank
+    FROM tasks t, websearch_to_tsquery('english', 'word200') AS q(query)
+    WHERE t.search_vector @@ q.query AND t.status = 'TODO' AND t.project_id = 42) m
+ORDER BY m.rank DESC, m.id LIMIT 11;
+
+\echo '--- medium term, next page (keyset on rank, id)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, m.rank FROM (
+    SELECT t.id, ts_rank(t.search_vector, q.query) AS rank
+    FROM tasks t, websearch_to_tsquery('english', 'word200') AS q(query)
+    WHERE t.search_vector @@ q.query) m
+WHERE m.rank < 0.0607927 OR (m.rank = 0.0607927 AND m.id > 2500000)
+ORDER BY m.rank DESC, m.id LIMIT 11;
+
+\echo '--- very common term (q=word2) - every match is ranked, so this is the worst case'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT m.id, m.rank FROM (
+    SELECT t.id, ts_rank(t.search_vector, q.query) AS rank
+    FROM tasks t, websearch_to_tsquery('english', 'word2') AS q(query)
+    WHERE t.search_vector @@ q.query) m
+ORDER BY m.rank DESC, m.id LIMIT 11;
@@ -0,0 +1,444 @@
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Closed-loop HTTP load generator for the Task Management API. No dependencies, run it
+// straight from source:
+//
+//   java scripts/loadtest/LoadGenerator.java --url http://localhost:8080 --concurrency 32 --duration 60
+//
+// Each worker logs in as one of the seeded users (loadtest profile), then loops over a
+// weighted mix of scenarios until the duration is up. Requests made during the warmup are
+// not recorded. At the end it prints requests, errors, throughput and latency percentiles
+// per endpoint (and writes them as JSON with --json <file>).
+//
+// Options (defaults in brackets):
+//   --url            [http://localhost:8080]
+//   --concurrency    workers, each with one request in flight [16]
+//   --duration       measured seconds [60]
+//   --warmup         seconds before measuring starts [10]
+//   --users          seeded users loadtest-1..N to log in as [20]
+//   --password       their password [loadtest-password]
+//   --mix            scenario weights [login=2,list=40,get=20,projects=13,create=10,update=10,delete=5]
+//   --seed           worker i draws its scenarios and parameters from seed + i, so runs with
+//                    the same seed send the same request sequence [1]
+//   --ready-timeout  seconds to wait for /actuator/health/readiness [180]
+//   --json           also write the results to this file
+public class LoadGenerator {
+
+    private static final Pattern TOKEN = Pattern.compile("\"token\"\\s*:\\s*\"([^\"]+)\"");
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final Pattern TOTAL = Pattern.compile("\"totalElements\"\\s*:\\s*(\\d+)");
+
+    private static final String[] STATUSES = {"TODO", "IN_PROGRESS", "DONE"};
+    private static final String[] PRIORITIES = {"LOW", "MEDIUM", "HIGH"};
+
+    private final Map<String, String> options;
+    private final String baseUrl;
+    private final HttpClient client;
+
+    private long taskCount;
+    private long projectCount;
+
+    public static void main(String[] args) throws Exception {
+        new LoadGenerator(parseOptions(args)).run();
+    }
+
+    private LoadGenerator(Map<String, String> options) {
+        this.options = options;
+        this.baseUrl = option("url", "http://localhost:8080").replaceAll("/+$", "");
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    private void run() throws Exception {
+        int concurrency = Integer.parseInt(option("concurrency", "16"));
+        long durationSeconds = Long.parseLong(option("duration", "60"));
+        long warmupSeconds = Long.parseLong(option("warmup", "10"));
+        int users = Integer.parseInt(option("users", "20"));
+        String password = option("password", "loadtest-password");
+        Mix mix = Mix.parse(option("mix", "login=2,list=40,get=20,projects=13,create=10,update=10,delete=5"));
+        long seed = Long.parseLong(option("seed", "1"));
+
+        waitUntilReady(Long.parseLong(option("ready-timeout", "180")));
+
+        String setupToken = login("loadtest-1", password);
+        taskCount = total(get("/api/tasks?size=1", setupToken));
+        projectCount = total(get("/api/projects?size=1", setupToken));
+        System.out.printf("Target %s: %d tasks, %d projects. %d workers, %ds warmup + %ds measured, mix %s, seed %d%n",
+                baseUrl, taskCount, projectCount, concurrency, warmupSeconds, durationSeconds, mix, seed);
+
+        long measureStart = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long end = measureStart + Duration.ofSeconds(durationSeconds).toNanos();
+
+        List<Worker> workers = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            Worker worker = new Worker("loadtest-" + (i % users + 1), password, mix, new SplittableRandom(seed + i),
+                    measureStart, end);
+            workers.add(worker);
+            Thread thread = new Thread(worker, "load-worker-" + i);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        report(workers, durationSeconds);
+    }
+
+    // One simulated client: its own token and the tasks it created (for update/delete)
+    private final class Worker implements Runnable {
+        private final String username;
+        private final String password;
+        private final Mix mix;
+        private final SplittableRandom random;
+        private final long measureStart;
+        private final long end;
+        private final Map<String, Stats> stats = new TreeMap<>();
+        private final Deque<Long> ownTasks = new ArrayDeque<>();
+        private String token;
+
+        Worker(String username, String password, Mix mix, SplittableRandom random, long measureStart, long end) {
+            this.username = username;
+            this.password = password;
+            this.mix = mix;
+            this.random = random;
+            this.measureStart = measureStart;
+            this.end = end;
+        }
+
+        @Override
+        public void run() {
+            // All workers log in at once; the password hashing pool may shed some of them (503)
+            for (int attempt = 1; token == null; attempt++) {
+                try {
+                    token = login(username, password);
+                } catch (Exception e) {
+                    if (attempt == 5 || System.nanoTime() >= end) {
+                        System.err.println(username + ": initial login failed, worker stops: " + e.getMessage());
+                        return;
+                    }
+                    try {
+                        Thread.sleep(200L * attempt);
+                    } catch (InterruptedException interrupted) {
+                        return;
+                    }
+                }
+            }
+            while (System.nanoTime() < end) {
+                String scenario = mix.pick(random);
+                // Nothing to update/delete yet: create instead
+                if ((scenario.equals("update") || scenario.equals("delete")) && ownTasks.isEmpty()) {
+                    scenario = "create";
+                }
+                step(scenario);
+            }
+        }
+
+        private void step(String scenario) {
+            switch (scenario) {
+                case "login" -> {
+                    Result result = send("POST /api/auth/login", post("/api/auth/login", null,
+                            "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"));
+                    Matcher matcher = TOKEN.matcher(result.body);
+                    if (matcher.find()) {
+                        token = matcher.group(1);
+                    }
+                }
+                case "list" -> {
+                    StringBuilder query = new StringBuilder("/api/tasks?size=20");
+                    if (random.nextBoolean()) {
+                        query.append("&status=").append(STATUSES[random.nextInt(3)]);
+                    }
+                    if (random.nextBoolean()) {
+                        query.append("&priority=").append(PRIORITIES[random.nextInt(3)]);
+                    }
+                    if (projectCount > 0 && random.nextInt(4) == 0) {
+                        query.append("&projectId=").append(1 + random.nextLong(projectCount));
+                    }
+                    send("GET /api/tasks (filtered)", request(query.toString(), token).GET().build());
+                }
+                case "get" -> send("GET /api/tasks/{id}",
+                        request("/api/tasks/" + (1 + random.nextLong(Math.max(taskCount, 1))), token).GET().build());
+                case "projects" -> send("GET /api/projects",
+                        request("/api/projects?size=20&page=" + random.nextLong(Math.max(projectCount / 20, 1)), token).GET().build());
+                case "create" -> {
+                    Result result = send("POST /api/tasks", post("/api/tasks", token, taskJson("Load task")));
+                    Matcher matcher = ID.matcher(result.body);
+                    if (result.status == 201 && matcher.find()) {
+                        ownTasks.addLast(Long.parseLong(matcher.group(1)));
+                    }
+                }
+                case "update" -> {
+                    long id = ownTasks.peekLast();
+                    send("PUT /api/tasks/{id}", request("/api/tasks/" + id, token)
+                            .PUT(HttpRequest.BodyPublishers.ofString(taskJson("Updated load task")))
+                            .header("Content-Type", "application/json")
+                            .build());
+                }
+                case "delete" -> {
+                    long id = ownTasks.pollFirst();
+                    send("DELETE /api/tasks/{id}", request("/api/tasks/" + id, token).DELETE().build());
+                }
+                default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+            }
+        }
+
+        private String taskJson(String title) {
+            String project = projectCount > 0 && random.nextInt(10) != 0
+                    ? String.valueOf(1 + random.nextLong(projectCount))
+                    : "null";
+            return "{\"title\":\"" + title + " " + random.nextInt(1_000_000) + "\"," +
+                    "\"description\":\"Created by the load generator\"," +
+                    "\"status\":\"" + STATUSES[random.nextInt(3)] + "\"," +
+                    "\"priority\":\"" + PRIORITIES[random.nextInt(3)] + "\"," +
+                    "\"projectId\":" + project + "}";
+        }
+
+        private Result send(String endpoint, HttpRequest request) {
+            long start = System.nanoTime();
+            Result result;
+            try {
+                HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+                result = new Result(response.statusCode(), response.body());
+            } catch (IOException e) {
+                result = new Result(0, "");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                result = new Result(0, "");
+            }
+            long now = System.nanoTime();
+            if (start >= measureStart && now <= end) {
+                stats.computeIfAbsent(endpoint, k -> new Stats()).record(now - start, result.status);
+            }
+            return result;
+        }
+    }
+
+    private record Result(int status, String body) {
+    }
+
+    // Latencies of one endpoint, kept in full and sorted once at the end
+    private static final class Stats {
+        private long[] latencies = new long[1024];
+        private int count;
+        private final Map<Integer, Integer> errors = new TreeMap<>();  // status (0 = I/O error) -> count
+
+        void record(long nanos, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+            if (status < 200 || status >= 400) {
+                errors.merge(status, 1, Integer::sum);
+            }
+        }
+
+        void addAll(Stats other) {
+            for (int i = 0; i < other.count; i++) {
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, Math.max(count * 2, 1024));
+                }
+                latencies[count++] = other.latencies[i];
+            }
+            other.errors.forEach((status, n) -> errors.merge(status, n, Integer::sum));
+        }
+
+        int errorCount() {
+            return errors.values().stream().mapToInt(Integer::intValue).sum();
+        }
+
+        double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return latencies[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+        }
+    }
+
+    private void report(List<Worker> workers, long durationSeconds) throws IOException {
+        Map<String, Stats> merged = new TreeMap<>();
+        Stats total = new Stats();
+        for (Worker worker : workers) {
+            worker.stats.forEach((endpoint, stats) -> merged.computeIfAbsent(endpoint, k -> new Stats()).addAll(stats));
+        }
+        merged.values().forEach(stats -> {
+            Arrays.sort(stats.latencies, 0, stats.count);
+            total.addAll(stats);
+        });
+        Arrays.sort(total.latencies, 0, total.count);
+
+        double[] percentiles = {50, 90, 95, 99, 100};
+        System.out.printf("%n%-28s %9s %7s %9s %8s %8s %8s %8s %8s%n",
+                "Endpoint", "Requests", "Errors", "Req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms");
+        Map<String, Stats> rows = new LinkedHashMap<>(merged);
+        rows.put("TOTAL", total);
+        StringBuilder json = new StringBuilder("{\"durationSeconds\":").append(durationSeconds).append(",\"endpoints\":[");
+        boolean first = true;
+        for (Map.Entry<String, Stats> row : rows.entrySet()) {
+            Stats stats = row.getValue();
+            double throughput = (double) stats.count / durationSeconds;
+            System.out.printf(Locale.ROOT, "%-28s %9d %7d %9.1f", row.getKey(), stats.count, stats.errorCount(), throughput);
+            json.append(first ? "" : ",").append(String.format(Locale.ROOT,
+                    "{\"endpoint\":\"%s\",\"requests\":%d,\"errors\":%d,\"throughput\":%.2f",
+                    row.getKey(), stats.count, stats.errorCount(), throughput));
+            for (double percentile : percentiles) {
+                double millis = stats.percentileMillis(percentile);
+                System.out.printf(Locale.ROOT, " %8.2f", millis);
+                json.append(String.format(Locale.ROOT, ",\"%s\":%.3f",
+                        percentile == 100 ? "maxMs" : "p" + (int) percentile + "Ms", millis));
+            }
+            System.out.println(stats.errors.isEmpty() ? "" : "   errors by status " + stats.errors);
+            json.append(",\"errorsByStatus\":{");
+            json.append(String.join(",", stats.errors.entrySet().stream()
+                    .map(e -> "\"" + e.getKey() + "\":" + e.getValue()).toList()));
+            json.append("}}");
+            first = false;
+        }
+        json.append("]}\n");
+
+        String jsonFile = options.get("json");
+        if (jsonFile != null) {
+            Files.writeString(Path.of(jsonFile), json);
+            System.out.println("\nResults written to " + jsonFile);
+        }
+    }
+
+    private void waitUntilReady(long timeoutSeconds) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(timeoutSeconds).toNanos();
+        while (true) {
+            try {
+                HttpResponse<String> response = client.send(
+                        HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health/readiness")).GET().build(),
+                        HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Not listening yet
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException(baseUrl + " not ready after " + timeoutSeconds + "s");
+            }
+            Thread.sleep(1000);
+        }
+    }
+
+    private String login(String username, String password) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(post("/api/auth/login", null,
+                "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}"), HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login as " + username + " failed: " + response.statusCode() + " " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private String get(String path, String token) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request(path, token).GET().build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("GET " + path + " failed: " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    private static long total(String pageJson) {
+        Matcher matcher = TOTAL.matcher(pageJson);
+        return matcher.find() ? Long.parseLong(matcher.group(1)) : 0;
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(30));
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest post(String path, String token, String json) {
+        return request(path, token)
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .header("Content-Type", "application/json")
+                .build();
+    }
+
+    // Weighted random choice between scenarios
+    private record Mix(String[] names, int[] cumulative) {
+
+        static Mix parse(String spec) {
+            List<String> names = new ArrayList<>();
+            List<Integer> cumulative = new ArrayList<>();
+            int sum = 0;
+            for (String part : spec.split(",")) {
+                String[] pair = part.trim().split("=");
+                int weight = Integer.parseInt(pair[1].trim());
+                if (weight > 0) {
+                    sum += weight;
+                    names.add(pair[0].trim());
+                    cumulative.add(sum);
+                }
+            }
+            if (names.isEmpty()) {
+                throw new IllegalArgumentException("--mix needs at least one positive weight");
+            }
+            return new Mix(names.toArray(String[]::new), cumulative.stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        String pick(SplittableRandom random) {
+            int r = random.nextInt(cumulative[cumulative.length - 1]);
+            for (int i = 0; i < cumulative.length; i++) {
+                if (r < cumulative[i]) {
+                    return names[i];
+                }
+            }
+            return names[names.length - 1];
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < names.length; i++) {
+                text.append(i == 0 ? "" : ",").append(names[i]).append('=')
+                        .append(cumulative[i] - (i == 0 ? 0 : cumulative[i - 1]));
+            }
+            return text.toString();
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --option value pairs, got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+}
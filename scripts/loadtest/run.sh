@@ -0,0 +1,81 @@
+#!/usr/bin/env bash
+# Boots the API with the loadtest profile (in-memory H2, seeded data) and runs the load
+# generator against it. Extra arguments go to the generator, e.g.
+#   scripts/loadtest/run.sh --concurrency 64 --duration 120 --json target/loadtest.json
+#
+# With --compare-threads first, runs the same load (same seed) twice, each against a freshly
+# seeded instance: once on platform request threads, once on virtual threads. Results go to
+# target/loadtest-platform.json and target/loadtest-virtual.json; total throughput, p99 and
+# errors for both are printed and kept in target/loadtest-threads.txt. Needs Java 21+:
+#   scripts/loadtest/run.sh --compare-threads --concurrency 200 --duration 60
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+PORT="${PORT:-8080}"
+
+COMPARE=false
+if [[ "${1:-}" == "--compare-threads" ]]; then
+    COMPARE=true
+    shift
+fi
+
+# Before Java 21, spring.threads.virtual.enabled is ignored: both runs would use platform threads
+if [[ "$COMPARE" == true ]] && ! java -XshowSettings:properties -version 2>&1 \
+        | awk '/java.specification.version/ { exit !($3 >= 21) }'; then
+    echo "--compare-threads needs Java 21 or later" >&2
+    exit 1
+fi
+
+./mvnw -B -q -Ploadtest -DskipTests package
+JAR="$(ls target/task-management-api-*.jar | grep -v plain | head -n 1)"
+
+APP_PID=""
+stop_app() {
+    if [[ -n "$APP_PID" ]]; then
+        kill "$APP_PID" 2>/dev/null || true
+        wait "$APP_PID" 2>/dev/null || true
+        APP_PID=""
+    fi
+}
+trap stop_app EXIT
+
+# start_app <log file> [application arguments...]
+start_app() {
+    local log="$1"
+    shift
+    java ${JAVA_OPTS:-} -jar "$JAR" --spring.profiles.active=loadtest --server.port="$PORT" "$@" \
+        > "$log" 2>&1 &
+    APP_PID=$!
+    echo "Application starting (pid $APP_PID, log $log)"
+}
+
+# The TOTAL row's value of one field from a generator --json file
+total_field() {
+    grep -o "\"endpoint\":\"TOTAL\"[^}]*" "$1" | grep -o "\"$2\":[0-9.]*" | cut -d: -f2
+}
+
+if [[ "$COMPARE" == false ]]; then
+    start_app target/loadtest-app.log
+    java scripts/loadtest/LoadGenerator.java --url "http://localhost:$PORT" "$@"
+    exit 0
+fi
+
+for mode in platform virtual; do
+    virtual=false
+    [[ "$mode" == virtual ]] && virtual=true
+    echo
+    echo "=== $mode threads ==="
+    start_app "target/loadtest-app-$mode.log" --spring.threads.virtual.enabled="$virtual"
+    java scripts/loadtest/LoadGenerator.java --url "http://localhost:$PORT" "$@" --json "target/loadtest-$mode.json"
+    stop_app
+done
+
+echo
+{
+    printf "%-10s %10s %10s %10s\n" "Threads" "Req/s" "p99 ms" "Errors"
+    for mode in platform virtual; do
+        file="target/loadtest-$mode.json"
+        printf "%-10s %10s %10s %10s\n" "$mode" \
+            "$(total_field "$file" throughput)" "$(total_field "$file" p99Ms)" "$(total_field "$file" errors)"
+    done
+} | tee target/loadtest-threads.txt
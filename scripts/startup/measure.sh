@@ -0,0 +1,57 @@
+#!/usr/bin/env bash
+# Time-to-first-200: launches a command that starts the API and polls GET /api/health (readiness:
+# context started, database reachable) every 10 ms until it answers 200. Prints each run and the
+# median of RUNS runs, for comparing startup before and after a change. Examples:
+#   scripts/startup/measure.sh java -jar target/task-management-api-0.0.1-SNAPSHOT.jar
+#   RUNS=10 scripts/startup/measure.sh docker run --rm -p 8080:8080 \
+#       -e SPRING_DATASOURCE_URL=jdbc:postgresql://host.docker.internal:5432/taskmanager task-api
+set -euo pipefail
+
+# Runs the command from the current directory (a class-data archive only maps when the jar
+# is found at the path it was trained with); logs go to target/ in the repository
+LOG_DIR="$(cd "$(dirname "$0")/../.." && pwd)/target"
+PORT="${PORT:-8080}"
+RUNS="${RUNS:-5}"
+TIMEOUT_S="${TIMEOUT_S:-120}"
+
+if [ $# -eq 0 ]; then
+    echo "usage: [RUNS=5] [PORT=8080] $0 <command that starts the API on PORT>" >&2
+    exit 2
+fi
+mkdir -p "$LOG_DIR"
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+results=()
+for run in $(seq "$RUNS"); do
+    log="$LOG_DIR/startup-run-$run.log"
+    start=$(now_ms)
+    "$@" > "$log" 2>&1 &
+    pid=$!
+
+    while true; do
+        status=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT/api/health" || true)
+        [ "$status" = 200 ] && break
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "run $run: the process exited before answering 200 (see $log)" >&2
+            exit 1
+        fi
+        if [ $(( $(now_ms) - start )) -gt $(( TIMEOUT_S * 1000 )) ]; then
+            kill "$pid"
+            echo "run $run: no 200 within ${TIMEOUT_S}s (see $log)" >&2
+            exit 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$(( $(now_ms) - start ))
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    echo "run $run: ${elapsed} ms"
+    results+=("$elapsed")
+done
+
+median=$(printf '%s\n' "${results[@]}" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }')
+echo "median time-to-first-200: ${median} ms over $RUNS runs"
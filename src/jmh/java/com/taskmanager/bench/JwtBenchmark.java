@@ -0,0 +1,100 @@
+package com.taskmanager.bench;
+
+import com.taskmanager.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Token issue and validation. validateToken hits the verified-token cache (the steady
+// state for a logged-in client); validateUncachedToken cycles through more distinct
+// tokens than the cache holds, so each call parses and checks the HMAC.
+// legacyExtractAndValidate is the baseline: the token work JwtAuthenticationFilter did per
+// request before the cache - extractUsername, then validateToken, which extracted the
+// username and the expiry again. Three parses, each with a parser built for the call.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final int UNCACHED_TOKENS = 100_000;
+
+    private JwtUtil jwtUtil;
+    private String token;
+    private String[] uncachedTokens;
+    private int next;
+
+    private Key legacyKey;
+    private String legacyToken;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        jwtUtil = app.bean(JwtUtil.class);
+        token = jwtUtil.generateToken("bench-user");
+        jwtUtil.validateToken(token, "bench-user");
+
+        // Distinct subjects, so tokens issued within the same second still differ
+        uncachedTokens = new String[UNCACHED_TOKENS];
+        for (int i = 0; i < UNCACHED_TOKENS; i++) {
+            uncachedTokens[i] = jwtUtil.generateToken("bench-user-" + i);
+        }
+
+        // Same token shape as JwtUtil issues (HS256, subject, issued-at, expiry)
+        legacyKey = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+        legacyToken = Jwts.builder()
+                .setSubject("bench-user")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(10)))
+                .signWith(legacyKey)
+                .compact();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("bench-user");
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, "bench-user");
+    }
+
+    @Benchmark
+    public Boolean validateUncachedToken() {
+        int i = next++ % UNCACHED_TOKENS;
+        return jwtUtil.validateToken(uncachedTokens[i], "bench-user-" + i);
+    }
+
+    @Benchmark
+    public Boolean legacyExtractAndValidate() {
+        String username = legacyClaims(legacyToken).getSubject();
+        return legacyClaims(legacyToken).getSubject().equals(username)
+                && !legacyClaims(legacyToken).getExpiration().before(new Date());
+    }
+
+    private Claims legacyClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(legacyKey)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
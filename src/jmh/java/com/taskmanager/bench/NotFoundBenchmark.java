@@ -0,0 +1,68 @@
+package com.taskmanager.bench;
+
+import com.taskmanager.exception.ErrorResponse;
+import com.taskmanager.exception.GlobalExceptionHandler;
+import com.taskmanager.exception.TaskNotFoundException;
+import com.taskmanager.security.JwtUtil;
+import jakarta.servlet.Filter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+// The 404 path for a missing task. handleNotFound is GlobalExceptionHandler on its own
+// (including creating the exception and its stack trace); missingTaskRequest is the whole
+// GET /api/tasks/{id} dispatch through the security filters, the lookup and the handler.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NotFoundBenchmark {
+
+    private static final long MISSING_ID = 999_999L;
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private MockMvc mockMvc;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        handler = app.bean(GlobalExceptionHandler.class);
+        request = new MockHttpServletRequest("GET", "/api/tasks/" + MISSING_ID);
+
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) app.getContext())
+                .addFilters(app.getContext().getBean("springSecurityFilterChain", Filter.class))
+                .build();
+        authorization = "Bearer " + app.bean(JwtUtil.class).generateToken("bench-user");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleNotFound() {
+        return handler.handleTaskNotFoundException(new TaskNotFoundException(MISSING_ID), request);
+    }
+
+    @Benchmark
+    public MvcResult missingTaskRequest() throws Exception {
+        return mockMvc.perform(get("/api/tasks/" + MISSING_ID).header("Authorization", authorization)).andReturn();
+    }
+}
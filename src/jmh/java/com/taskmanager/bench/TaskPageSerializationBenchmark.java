@@ -0,0 +1,96 @@
+package com.taskmanager.bench;
+
+import com.taskmanager.dto.PageResponse;
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Jackson serialization of a GET /api/tasks response body, using the application's
+// configured ObjectMapper: Spring Data's Page<Task> (the body before PageResponse) against
+// PageResponse<Task>. Both write to a reused stream, as the message converter writes to the
+// response. Tasks look like real ones: a title, a sentence-long description, timestamps and
+// one of 20 projects. Response sizes are printed at setup; add -prof gc for allocation per op.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskPageSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Page<Task> page;
+    private PageResponse<Task> pageResponse;
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream(1 << 20);
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        objectMapper = app.bean(ObjectMapper.class);
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Project project = new Project("Project " + i, "Project number " + i);
+            project.setId((long) i + 1);
+            projects.add(project);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Task> tasks = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            Task task = new Task("Task " + i + " - review the quarterly report",
+                    "Go through the numbers, check them against last quarter and send comments to the team " + i,
+                    Priority.values()[i % 3], Status.values()[i % 3]);
+            task.setId((long) i + 1);
+            task.setVersion(0L);
+            task.setCreatedAt(now.minusMinutes(i));
+            task.setUpdatedAt(now);
+            task.setProject(projects.get(i % projects.size()));
+            tasks.add(task);
+        }
+        page = new PageImpl<>(tasks, PageRequest.of(0, pageSize), 50_000);
+        pageResponse = PageResponse.of(page);
+
+        System.out.printf("%nResponse bytes for %d tasks: Page<Task> %d, PageResponse<Task> %d%n", pageSize,
+                objectMapper.writeValueAsBytes(page).length, objectMapper.writeValueAsBytes(pageResponse).length);
+    }
+
+    @Benchmark
+    public int pageImpl() {
+        out.reset();
+        objectMapper.writeValue(out, page);
+        return out.size();
+    }
+
+    @Benchmark
+    public int pageResponse() {
+        out.reset();
+        objectMapper.writeValue(out, pageResponse);
+        return out.size();
+    }
+}
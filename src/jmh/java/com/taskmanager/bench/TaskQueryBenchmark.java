@@ -0,0 +1,92 @@
+package com.taskmanager.bench;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.service.TaskListCache;
+import com.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// TaskService.getAllTasks (page query + count query, projects fetched in the same
+// statement) against 10,000 tasks in the in-memory H2 database, per filter combination:
+// a TaskListCache miss (the queries plus filling the cache) and a hit.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskQueryBenchmark {
+
+    private static final int TASKS = 10_000;
+    private static final int PROJECTS = 50;
+
+    @Param({"none", "status", "status+priority", "project+status+priority"})
+    private String filter;
+
+    private TaskService taskService;
+    private TaskListCache taskListCache;
+    private Status status;
+    private Priority priority;
+    private Long projectId;
+    private final Pageable pageable = PageRequest.of(0, 20, Sort.by("id"));
+
+    @Setup(Level.Trial)
+    public void setUp(ApplicationState app) {
+        taskService = app.bean(TaskService.class);
+        taskListCache = app.bean(TaskListCache.class);
+        TaskRepository taskRepository = app.bean(TaskRepository.class);
+        ProjectRepository projectRepository = app.bean(ProjectRepository.class);
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < PROJECTS; i++) {
+            projects.add(new Project("Project " + i, null));
+        }
+        projects = projectRepository.saveAll(projects);
+
+        List<Task> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task("Task " + i, "Generated task " + i, Priority.values()[i % 3], Status.values()[(i / 3) % 3]);
+            task.setProject(projects.get(i % PROJECTS));
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        status = filter.contains("status") ? Status.TODO : null;
+        priority = filter.contains("priority") ? Priority.HIGH : null;
+        projectId = filter.contains("project") ? projects.get(0).getId() : null;
+    }
+
+    @Benchmark
+    public Page<Task> getAllTasks() {
+        taskListCache.invalidateAll();
+        return taskService.getAllTasks(status, priority, projectId, pageable);
+    }
+
+    @Benchmark
+    public Page<Task> getAllTasksCached() {
+        return taskService.getAllTasks(status, priority, projectId, pageable);
+    }
+}
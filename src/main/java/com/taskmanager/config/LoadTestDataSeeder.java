@@ -0,0 +1,114 @@
+package com.taskmanager.config;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.User;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Fills the empty load-test database at startup. Runs before ApplicationReadyEvent, so the
+// task counters are built from the seeded rows and readiness only turns UP once seeding is done.
+// Tasks get ids 1..N (load generators rely on that); tasks_seq is moved past them.
+@Component
+@Profile("loadtest")
+public class LoadTestDataSeeder implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestDataSeeder.class);
+
+    private static final String INSERT_TASK_SQL = "INSERT INTO tasks (id, title, description, status, priority, " +
+            "project_id, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Value("${app.loadtest.users:20}")
+    private int users;
+
+    @Value("${app.loadtest.password:loadtest-password}")
+    private String password;
+
+    @Value("${app.loadtest.projects:200}")
+    private int projects;
+
+    @Value("${app.loadtest.tasks:100000}")
+    private int tasks;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        if (userRepository.count() > 0) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+
+        // One hash for everyone: BCrypt per user would dominate startup
+        String encoded = passwordEncoder.encode(password);
+        List<User> seededUsers = new ArrayList<>(users);
+        for (int i = 1; i <= users; i++) {
+            seededUsers.add(new User("loadtest-" + i, encoded));
+        }
+        userRepository.saveAll(seededUsers);
+
+        List<Project> seededProjects = new ArrayList<>(projects);
+        for (int i = 1; i <= projects; i++) {
+            seededProjects.add(new Project("Project " + i, "Load-test project " + i));
+        }
+        List<Long> projectIds = projectRepository.saveAll(seededProjects).stream().map(Project::getId).toList();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int id = 1; id <= tasks; id++) {
+            batch.add(new Object[]{
+                    (long) id,
+                    "Task " + id,
+                    "Generated task " + id + " for load testing",
+                    Status.values()[id % 3].name(),
+                    Priority.values()[(id / 3) % 3].name(),
+                    id % 10 == 0 || projectIds.isEmpty() ? null : projectIds.get(id % projectIds.size()),
+                    now,
+                    now
+            });
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_TASK_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_TASK_SQL, batch);
+        }
+
+        // Hibernate's pooled optimizer may hand out up to 50 ids below the value it reads
+        jdbcTemplate.execute("ALTER SEQUENCE tasks_seq RESTART WITH " + (tasks + 100));
+
+        log.info("Seeded {} users, {} projects and {} tasks in {} ms",
+                users, projects, tasks, System.currentTimeMillis() - start);
+    }
+}
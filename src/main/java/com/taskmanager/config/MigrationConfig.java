@@ -0,0 +1,22 @@
+package com.taskmanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.flyway.autoconfigure.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Flyway migrates the schema at startup unless app.migrations.on-startup=false: for instances
+// started after the migrations have already run once (e.g. as a release step), and for the
+// class-data training run in the Dockerfile, which has no database to talk to.
+@Configuration
+public class MigrationConfig {
+
+    @Bean
+    public FlywayMigrationStrategy migrationStrategy(@Value("${app.migrations.on-startup:true}") boolean onStartup) {
+        return flyway -> {
+            if (onStartup) {
+                flyway.migrate();
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+// Read/write splitting (app.read-replicas.enabled=true): the application's DataSource becomes
+// LazyConnectionDataSourceProxy -> ReadWriteRoutingDataSource -> primary pool + ReplicaPool.
+// @Transactional(readOnly = true) work reads from a replica, everything else uses the primary.
+@Configuration
+@ConditionalOnBooleanProperty("app.read-replicas.enabled")
+public class ReadReplicaConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaPool replicaPool(
+            @Value("${app.read-replicas.urls}") String urls,
+            @Value("${app.read-replicas.username:${spring.datasource.username:}}") String username,
+            @Value("${app.read-replicas.password:${spring.datasource.password:}}") String password,
+            @Value("${app.read-replicas.pool-size:10}") int poolSize,
+            @Value("${app.read-replicas.connection-timeout-ms:1000}") long connectionTimeoutMs,
+            @Value("${app.read-replicas.lag-query}") String lagQuery,
+            @Value("${app.read-replicas.max-lag-ms:1000}") long maxLagMs,
+            @Value("${app.read-replicas.check-interval-ms:2000}") long checkIntervalMs,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            MeterRegistry meterRegistry) {
+        List<String> replicaUrls = Arrays.stream(urls.split(",")).map(String::trim).filter(url -> !url.isEmpty()).toList();
+        if (replicaUrls.isEmpty()) {
+            throw new IllegalStateException("app.read-replicas.enabled=true needs at least one app.read-replicas.urls entry");
+        }
+        return new ReplicaPool(replicaUrls, username, password, poolSize, connectionTimeoutMs,
+                lagQuery, maxLagMs, checkIntervalMs, virtualThreads, meterRegistry);
+    }
+
+    // Wraps the auto-configured DataSource after the virtual-thread limiter (if any) and before
+    // SQL accounting, so Flyway, JPA and JdbcTemplate all go through the routing
+    @Bean
+    public static BeanPostProcessor readWriteRouting(ObjectProvider<ReplicaPool> replicaPool,
+                                                     ObjectProvider<MeterRegistry> meterRegistry,
+                                                     @Value("${app.read-replicas.sticky-ms:5000}") long stickyMs) {
+        return new RoutingPostProcessor(replicaPool, meterRegistry, Duration.ofMillis(stickyMs));
+    }
+
+    // Hibernate otherwise holds one connection per EntityManager, which with open-in-view is
+    // the whole request: release it after each transaction so every transaction is routed
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionsAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    // Replicas in rotation, and each replica's last measured lag (NaN while its check fails)
+    @Bean
+    public MeterBinder replicaMetrics(ReplicaPool replicaPool) {
+        return registry -> {
+            Gauge.builder("db.replicas.healthy", replicaPool, ReplicaPool::healthyCount)
+                    .description("Read replicas currently receiving reads")
+                    .register(registry);
+            for (ReplicaPool.Replica replica : replicaPool.getReplicas()) {
+                Gauge.builder("db.replica.lag", replica, ReplicaPool.Replica::getLagMs)
+                        .tag("replica", replica.getName())
+                        .baseUnit("milliseconds")
+                        .description("Replication lag at the last health check")
+                        .register(registry);
+            }
+        };
+    }
+
+    private static final class RoutingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<ReplicaPool> replicaPool;
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final Duration stickyWindow;
+
+        private RoutingPostProcessor(ObjectProvider<ReplicaPool> replicaPool,
+                                     ObjectProvider<MeterRegistry> meterRegistry, Duration stickyWindow) {
+            this.replicaPool = replicaPool;
+            this.meterRegistry = meterRegistry;
+            this.stickyWindow = stickyWindow;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (beanName.equals("dataSource") && bean instanceof DataSource primary) {
+                return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(
+                        primary, replicaPool.getObject(), stickyWindow, meterRegistry.getObject()));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE - 1;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.taskmanager.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+// Sends the connections of @Transactional(readOnly = true) work to a read replica and
+// everything else to the primary. Must sit behind a LazyConnectionDataSourceProxy: the
+// transaction's read-only flag is only known once it has begun, i.e. at the first statement.
+// Read-your-writes: for stickyWindow after a client's write commits, that client's reads
+// stay on the primary too. The client is the authenticated user, or the remote address
+// for anonymous requests (register, then login). The window is per instance.
+// Caches shared between clients ask readsFromReplica() so they only keep what the primary said.
+public class ReadWriteRoutingDataSource extends AbstractDataSource {
+
+    // Bound to the transaction once one of its connections came from a replica
+    private static final Object REPLICA_READ = new Object();
+
+    private final DataSource primary;
+    private final ReplicaPool replicas;
+    private final Cache<String, Boolean> recentWriters;
+
+    private final Counter primaryConnections;
+    private final Counter replicaConnections;
+    private final Counter stickyConnections;
+    private final Counter fallbackConnections;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaPool replicas, Duration stickyWindow,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+
+        primaryConnections = routeCounter(meterRegistry, "primary", "Not a read-only transaction");
+        replicaConnections = routeCounter(meterRegistry, "replica", "Read-only transaction on a replica");
+        stickyConnections = routeCounter(meterRegistry, "sticky", "Read-only transaction kept on the primary after the client's write");
+        fallbackConnections = routeCounter(meterRegistry, "fallback", "Read-only transaction on the primary, no replica healthy");
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                rememberWriterOnCommit();
+            }
+            primaryConnections.increment();
+            return primary.getConnection();
+        }
+
+        String client = currentClient();
+        if (client != null && recentWriters.getIfPresent(client) != null) {
+            stickyConnections.increment();
+            return primary.getConnection();
+        }
+
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            ReplicaPool.Replica replica = replicas.pick();
+            if (replica == null) {
+                break;
+            }
+            try {
+                Connection connection = replica.getConnection();
+                replicaConnections.increment();
+                markReplicaRead();
+                return connection;
+            } catch (SQLException e) {
+                replicas.eject(replica, e.getMessage());
+            }
+        }
+        fallbackConnections.increment();
+        return primary.getConnection();
+    }
+
+    // Explicit credentials belong to the primary; the replicas only know their own
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        primaryConnections.increment();
+        return primary.getConnection(username, password);
+    }
+
+    // Hikari metrics, health checks and the virtual-thread limiter look through this to the primary
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    // True when the current transaction has read through a replica (so possibly stale data).
+    // Always false when routing is off.
+    public static boolean readsFromReplica() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_READ);
+    }
+
+    private static void markReplicaRead() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(REPLICA_READ)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_READ, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_READ);
+            }
+        });
+    }
+
+    private void rememberWriterOnCommit() {
+        String client = currentClient();
+        if (client == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                recentWriters.put(client, Boolean.TRUE);
+            }
+        });
+    }
+
+    // null outside a request (startup, background jobs): no stickiness there
+    private static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return "ip:" + attributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String route, String description) {
+        return Counter.builder("db.routing.connections")
+                .tag("route", route)
+                .description(description)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,166 @@
+package com.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// The read replicas behind ReadWriteRoutingDataSource, one Hikari pool each, handed out
+// round-robin. A background check runs lagQuery (replication lag in seconds) on every
+// replica; one that fails it or lags more than maxLagMs is ejected (gets no reads) until
+// a later check passes again.
+public class ReplicaPool implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaPool.class);
+
+    public static final class Replica {
+        private final String name;
+        private final HikariDataSource pool;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagMs = Double.NaN;  // NaN = last check failed
+
+        private Replica(String name, HikariDataSource pool, DataSource dataSource) {
+            this.name = name;
+            this.pool = pool;
+            this.dataSource = dataSource;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public double getLagMs() {
+            return lagMs;
+        }
+
+        Connection getConnection() throws SQLException {
+            return dataSource.getConnection();
+        }
+    }
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final String lagQuery;
+    private final long maxLagMs;
+    private final int checkTimeoutSeconds;
+    private final ScheduledExecutorService checker;
+
+    // limitConcurrency puts each pool behind a ConcurrencyLimitedDataSource, as the primary
+    // is in virtual-thread mode
+    public ReplicaPool(List<String> urls, String username, String password, int poolSize, long connectionTimeoutMs,
+                       String lagQuery, long maxLagMs, long checkIntervalMs, boolean limitConcurrency,
+                       MeterRegistry meterRegistry) {
+        this.lagQuery = lagQuery;
+        this.maxLagMs = maxLagMs;
+        this.checkTimeoutSeconds = (int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(connectionTimeoutMs));
+
+        for (String url : urls) {
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName(name);
+            pool.setJdbcUrl(url);
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setMaximumPoolSize(poolSize);
+            pool.setConnectionTimeout(connectionTimeoutMs);
+            pool.setReadOnly(true);
+            // Start even when the replica is down; the health check keeps it out until it's back
+            pool.setInitializationFailTimeout(-1);
+            pool.setMetricRegistry(meterRegistry);
+            DataSource dataSource = limitConcurrency
+                    ? new ConcurrencyLimitedDataSource(pool, poolSize, connectionTimeoutMs)
+                    : pool;
+            replicas.add(new Replica(name, pool, dataSource));
+        }
+
+        // First check before any read is routed, so a replica that's down at startup never gets one
+        check();
+        checker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        checker.scheduleWithFixedDelay(this::check, checkIntervalMs, checkIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public int size() {
+        return replicas.size();
+    }
+
+    public long healthyCount() {
+        return replicas.stream().filter(Replica::isHealthy).count();
+    }
+
+    // Next healthy replica in round-robin order; null when none is healthy
+    Replica pick() {
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    // Out of rotation right away (e.g. it refused a connection); the next passing check brings it back
+    void eject(Replica replica, String reason) {
+        markHealthy(replica, false, reason);
+    }
+
+    void check() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.pool.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(checkTimeoutSeconds);
+                double lagMs;
+                try (ResultSet result = statement.executeQuery(lagQuery)) {
+                    result.next();
+                    lagMs = result.getDouble(1) * 1000;
+                }
+                replica.lagMs = lagMs;
+                markHealthy(replica, lagMs <= maxLagMs, String.format("%.0fms behind the primary", lagMs));
+            } catch (SQLException | RuntimeException e) {
+                replica.lagMs = Double.NaN;
+                markHealthy(replica, false, "health check failed: " + e.getMessage());
+            }
+        }
+    }
+
+    private void markHealthy(Replica replica, boolean healthy, String reason) {
+        boolean was = replica.healthy;
+        replica.healthy = healthy;
+        if (was && !healthy) {
+            log.warn("Read replica {} ejected: {}", replica.name, reason);
+        } else if (!was && healthy) {
+            log.info("Read replica {} in rotation ({})", replica.name, reason);
+        }
+    }
+
+    @Override
+    public void close() {
+        checker.shutdownNow();
+        replicas.forEach(replica -> replica.pool.close());
+    }
+}
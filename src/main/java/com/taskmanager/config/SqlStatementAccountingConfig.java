@@ -0,0 +1,68 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+// SQL accounting (app.sql-stats.enabled, on by default): statements and database time per
+// HTTP request as metrics, likely N+1s and slow statements logged. Replaces spring.jpa.show-sql,
+// which printed every statement synchronously.
+@Configuration
+@ConditionalOnBooleanProperty(name = "app.sql-stats.enabled", matchIfMissing = true)
+public class SqlStatementAccountingConfig {
+
+    @Bean
+    public SqlStatementMonitor sqlStatementMonitor(
+            @Value("${app.sql-stats.slow-ms:200}") long slowMs,
+            @Value("${app.sql-stats.repeat-threshold:10}") int repeatThreshold,
+            MeterRegistry meterRegistry) {
+        return new SqlStatementMonitor(slowMs, repeatThreshold, meterRegistry);
+    }
+
+    // Wraps the DataSource outermost (after read/write routing), so statements on replicas count too
+    @Bean
+    public static BeanPostProcessor statementAccounting(ObjectProvider<SqlStatementMonitor> monitor) {
+        return new AccountingPostProcessor(monitor);
+    }
+
+    // Ahead of every other filter, so statements run by security filters count as well
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(
+            SqlStatementMonitor monitor,
+            @Value("${app.sql-stats.response-headers:false}") boolean responseHeaders) {
+        FilterRegistrationBean<SqlStatementFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementFilter(monitor, responseHeaders));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    private static final class AccountingPostProcessor implements BeanPostProcessor, Ordered {
+
+        private final ObjectProvider<SqlStatementMonitor> monitor;
+
+        private AccountingPostProcessor(ObjectProvider<SqlStatementMonitor> monitor) {
+            this.monitor = monitor;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (beanName.equals("dataSource") && bean instanceof DataSource dataSource) {
+                return new StatementAccountingDataSource(dataSource, monitor.getObject());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.taskmanager.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Scopes SqlStatementMonitor's accounting to one HTTP request and records it when the request
+// ends. With responseHeaders (the dev profile) the counts are also sent back as
+// X-SQL-Statements / X-SQL-Time-Ms / X-SQL-Max-Repeats. Headers must precede the body, so they
+// reflect the statements run before the body started; the metrics cover the whole request.
+// Work continued on another thread (SSE, streamed exports) is not attributed to the request.
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private final SqlStatementMonitor monitor;
+    private final boolean responseHeaders;
+
+    public SqlStatementFilter(SqlStatementMonitor monitor, boolean responseHeaders) {
+        this.monitor = monitor;
+        this.responseHeaders = responseHeaders;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementMonitor.RequestStats stats = monitor.begin(request.getMethod() + " " + request.getRequestURI());
+        HeaderWritingResponse headerWriting = responseHeaders ? new HeaderWritingResponse(response, stats) : null;
+        try {
+            filterChain.doFilter(request, headerWriting != null ? headerWriting : response);
+        } finally {
+            monitor.end();
+            if (headerWriting != null) {
+                headerWriting.writeHeaders();
+            }
+            // The route template, as in http.server.requests (keeps the uri tag's cardinality bounded)
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            monitor.record(stats, request.getMethod(), pattern != null ? pattern.toString() : "UNKNOWN");
+        }
+    }
+
+    // Adds the headers just before the response commits: first body write, flush or error
+    private static final class HeaderWritingResponse extends HttpServletResponseWrapper {
+
+        private final SqlStatementMonitor.RequestStats stats;
+        private boolean written;
+
+        private HeaderWritingResponse(HttpServletResponse response, SqlStatementMonitor.RequestStats stats) {
+            super(response);
+            this.stats = stats;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+
+        private void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader("X-SQL-Statements", Integer.toString(stats.getStatements()));
+            setHeader("X-SQL-Time-Ms", String.format(Locale.ROOT, "%.3f", stats.getNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1)));
+            setHeader("X-SQL-Max-Repeats", Integer.toString(stats.getMaxRepeats()));
+        }
+    }
+}
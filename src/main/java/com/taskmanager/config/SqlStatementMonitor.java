@@ -0,0 +1,178 @@
+package com.taskmanager.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// SQL accounting per HTTP request: statement count and database time, and the statement
+// shapes repeated more than repeatThreshold times (a likely N+1: the same query once per row).
+// Statements are grouped by shape - literals replaced by ?, IN lists collapsed - so
+// "where id = 1" and "where id = 2" count as the same statement. Statements slower than
+// slowThreshold are logged with their parameter types, wherever they run.
+//
+// Both logs go to the com.taskmanager.sql logger, which logback-spring.xml sends through an
+// async appender: a burst of slow queries never blocks request threads on console output.
+public class SqlStatementMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger("com.taskmanager.sql");
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ThreadLocal<RequestStats> current = new ThreadLocal<>();
+    private final Cache<String, String> shapes = Caffeine.newBuilder().maximumSize(2_000).build();
+
+    private final long slowThresholdNanos;
+    private final int repeatThreshold;
+    private final MeterRegistry meterRegistry;
+    private final Counter slowStatements;
+
+    public SqlStatementMonitor(long slowThresholdMs, int repeatThreshold, MeterRegistry meterRegistry) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.repeatThreshold = repeatThreshold;
+        this.meterRegistry = meterRegistry;
+        this.slowStatements = Counter.builder("db.statements.slow")
+                .description("Statements slower than app.sql-stats.slow-ms")
+                .register(meterRegistry);
+    }
+
+    // Statements on this thread count towards the returned stats until end()
+    public RequestStats begin(String request) {
+        RequestStats stats = new RequestStats(request, repeatThreshold);
+        current.set(stats);
+        return stats;
+    }
+
+    public void end() {
+        current.remove();
+    }
+
+    // Metrics for a finished request, tagged like http.server.requests; logs a likely N+1
+    public void record(RequestStats stats, String method, String uri) {
+        DistributionSummary.builder("db.request.statements")
+                .tags("method", method, "uri", uri)
+                .description("SQL statements per HTTP request")
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        Timer.builder("db.request.time")
+                .tags("method", method, "uri", uri)
+                .description("Time spent executing SQL per HTTP request")
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+        if (stats.getRepeatedShape() != null) {
+            Counter.builder("db.request.repeated.statements")
+                    .tags("method", method, "uri", uri)
+                    .description("Requests that ran one statement more than app.sql-stats.repeat-threshold times")
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Possible N+1 in {}: statement ran {} times: {}",
+                    stats.getRequest(), stats.getMaxRepeats(), stats.getRepeatedShape());
+        }
+    }
+
+    void statementExecuted(String sql, long nanos, boolean batch, String[] parameterTypes) {
+        RequestStats stats = current.get();
+        if (stats != null) {
+            stats.statements++;
+            stats.nanos += nanos;
+            // Batches repeat one statement on purpose
+            if (!batch) {
+                stats.count(shapeOf(sql));
+            }
+        }
+        if (nanos >= slowThresholdNanos) {
+            slowStatements.increment();
+            log.warn("Slow statement ({} ms){}: {} parameters [{}]",
+                    TimeUnit.NANOSECONDS.toMillis(nanos),
+                    stats != null ? " in " + stats.getRequest() : "",
+                    shapeOf(sql), describe(parameterTypes));
+        }
+    }
+
+    // Literal values never reach the logs or the metrics, only the statement's shape
+    String shapeOf(String sql) {
+        if (sql == null) {
+            return "<batch>";
+        }
+        return shapes.get(sql, text -> {
+            String shape = STRING_LITERAL.matcher(text).replaceAll("?");
+            shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+            shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+            return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+        });
+    }
+
+    private static String describe(String[] parameterTypes) {
+        StringJoiner joiner = new StringJoiner(", ");
+        int last = parameterTypes.length;
+        while (last > 0 && parameterTypes[last - 1] == null) {
+            last--;
+        }
+        for (int i = 0; i < last; i++) {
+            joiner.add(parameterTypes[i] != null ? parameterTypes[i] : "?");
+        }
+        return joiner.toString();
+    }
+
+    // One request's statements; only touched by the thread serving the request
+    public static final class RequestStats {
+
+        private final String request;
+        private final int repeatThreshold;
+        private final Map<String, Integer> shapeCounts = new HashMap<>();
+        private int statements;
+        private long nanos;
+        private int maxRepeats;
+        private String repeatedShape;
+
+        private RequestStats(String request, int repeatThreshold) {
+            this.request = request;
+            this.repeatThreshold = repeatThreshold;
+        }
+
+        private void count(String shape) {
+            int count = shapeCounts.merge(shape, 1, Integer::sum);
+            if (count > maxRepeats) {
+                maxRepeats = count;
+            }
+            if (count > repeatThreshold && repeatedShape == null) {
+                repeatedShape = shape;
+            }
+        }
+
+        public String getRequest() {
+            return request;
+        }
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        // Executions of the most repeated statement shape
+        public int getMaxRepeats() {
+            return maxRepeats;
+        }
+
+        // First shape to exceed the repeat threshold, null if none did
+        public String getRepeatedShape() {
+            return repeatedShape;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.taskmanager.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+// Times every statement executed through the application's connections and reports it to
+// SqlStatementMonitor, with the parameter types bound to it (never the values). Only the
+// execute* call is timed: for streamed results (export) rows fetched later are not included.
+// A batch counts once per executeBatch, i.e. per round trip.
+public class StatementAccountingDataSource extends DelegatingDataSource {
+
+    private final SqlStatementMonitor monitor;
+
+    public StatementAccountingDataSource(DataSource target, SqlStatementMonitor monitor) {
+        super(target);
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return accounting(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return accounting(super.getConnection(username, password));
+    }
+
+    private Connection accounting(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                StatementAccountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        private ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = StatementAccountingDataSource.invoke(connection, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement/prepareCall carry their SQL; createStatement gets it at execute
+                String sql = method.getName().startsWith("prepare") ? (String) args[0] : null;
+                Class<?> type = result instanceof CallableStatement ? CallableStatement.class
+                        : result instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                return Proxy.newProxyInstance(
+                        StatementAccountingDataSource.class.getClassLoader(),
+                        new Class<?>[]{type},
+                        new StatementHandler(statement, (Connection) proxy, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final Connection connection;
+        private final String sql;
+        private String[] parameterTypes = new String[0];
+
+        private StatementHandler(Statement statement, Connection connection, String sql) {
+            this.statement = statement;
+            this.connection = connection;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                boolean batch = name.equals("executeBatch") || name.equals("executeLargeBatch");
+                long start = System.nanoTime();
+                try {
+                    return StatementAccountingDataSource.invoke(statement, method, args);
+                } finally {
+                    monitor.statementExecuted(executed, System.nanoTime() - start, batch, parameterTypes);
+                }
+            }
+            // setXxx(int index, value...) on a prepared statement: remember the value's type
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name, args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameterTypes = new String[0];
+            } else if (name.equals("getConnection")) {
+                return connection;
+            }
+            return StatementAccountingDataSource.invoke(statement, method, args);
+        }
+
+        private void bind(int index, String setter, Object value) {
+            if (index > parameterTypes.length) {
+                parameterTypes = Arrays.copyOf(parameterTypes, Math.max(index, parameterTypes.length * 2));
+            }
+            parameterTypes[index - 1] = switch (setter) {
+                case "setNull" -> "null";
+                case "setObject" -> value == null ? "null" : value.getClass().getSimpleName();
+                default -> setter.substring(3);
+            };
+        }
+    }
+}
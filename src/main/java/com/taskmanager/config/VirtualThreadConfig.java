@@ -0,0 +1,80 @@
+package com.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+// Extra wiring for spring.threads.virtual.enabled=true (Tomcat then runs every
+// request on its own virtual thread). Nothing here is active in platform-thread mode.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    // Put a fair semaphore sized to the Hikari pool in front of the DataSource, so
+    // JPA work queues there instead of thousands of virtual threads spinning on
+    // Hikari's connection handoff. Waiting is bounded by Hikari's connectionTimeout.
+    // Ordered first, so it wraps the pool itself before any other DataSource wrapper.
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimiter() {
+        return new DataSourceConcurrencyLimiter();
+    }
+
+    // Saturation of the limiter itself: free permits and virtual threads queued for one
+    // (Hikari's own hikaricp.connections.* metrics still apply to the wrapped pool)
+    @Bean
+    public MeterBinder dataSourceLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            ConcurrencyLimitedDataSource limiter = unwrapLimiter(dataSource);
+            if (limiter != null) {
+                Gauge.builder("db.limiter.permits.available", limiter, ConcurrencyLimitedDataSource::getAvailablePermits)
+                        .description("Connection permits not currently held")
+                        .register(registry);
+                Gauge.builder("db.limiter.queued", limiter, ConcurrencyLimitedDataSource::getQueueLength)
+                        .description("Threads waiting for a connection permit")
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor() {
+        return new VirtualThreadPinningMonitor();
+    }
+
+    // The limiter may sit under other wrappers (e.g. read/write routing)
+    private static ConcurrencyLimitedDataSource unwrapLimiter(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConcurrencyLimitedDataSource.class)
+                    ? dataSource.unwrap(ConcurrencyLimitedDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private static final class DataSourceConcurrencyLimiter implements BeanPostProcessor, Ordered {
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                return new ConcurrencyLimitedDataSource(
+                        hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskmanager.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Listens for the JDK's jdk.VirtualThreadPinned JFR event (a virtual thread that
+// blocked while stuck to its carrier, e.g. inside a synchronized block in a JDBC
+// driver or Hibernate). Each one is logged with the frames that matter and counted
+// in the jvm.threads.virtual.pinned metric, tagged by the library that pinned.
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    // Frames from these packages are what we want to see in a pinning report
+    private static final List<String> INTERESTING_PACKAGES =
+            List.of("org.postgresql.", "com.zaxxer.hikari.", "org.hibernate.", "org.springframework.", "com.taskmanager.");
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.virtual-threads.pinning-threshold-ms:20}")
+    private long thresholdMs;
+
+    private RecordingStream recording;
+
+    @PostConstruct
+    void start() {
+        recording = new RecordingStream();
+        recording.enable("jdk.VirtualThreadPinned")
+                .withThreshold(Duration.ofMillis(thresholdMs))
+                .withStackTrace();
+        recording.onEvent("jdk.VirtualThreadPinned", this::report);
+        recording.startAsync();
+    }
+
+    @PreDestroy
+    void stop() {
+        recording.close();
+    }
+
+    private void report(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null ? event.getStackTrace().getFrames() : List.of();
+
+        List<String> relevant = frames.stream()
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .filter(frame -> INTERESTING_PACKAGES.stream().anyMatch(frame::startsWith))
+                .limit(8)
+                .collect(Collectors.toList());
+
+        String source = relevant.isEmpty() ? "unknown" : libraryOf(relevant.get(0));
+        meterRegistry.counter("jvm.threads.virtual.pinned", "source", source).increment();
+
+        log.warn("Virtual thread pinned for {} ms (source: {})\n\tat {}",
+                event.getDuration().toMillis(), source, String.join("\n\tat ", relevant));
+    }
+
+    private static String libraryOf(String frame) {
+        for (String prefix : INTERESTING_PACKAGES) {
+            if (frame.startsWith(prefix)) {
+                return prefix.substring(0, prefix.length() - 1);
+            }
+        }
+        return "unknown";
+    }
+}
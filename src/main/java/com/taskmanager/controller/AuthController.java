@@ -1,8 +1,11 @@
 package com.taskmanager.controller;
 
+import com.taskmanager.exception.ServiceBusyException;
+import com.taskmanager.exception.TooManyRequestsException;
 import com.taskmanager.model.User;
 import com.taskmanager.security.JwtUtil;
 import com.taskmanager.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -37,6 +40,8 @@ public class AuthController {
             response.put("username", user.getUsername());
 
             return ResponseEntity.ok(response);
+        } catch (TooManyRequestsException | ServiceBusyException e) {
+            throw e; // 429 / 503 from GlobalExceptionHandler
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
@@ -46,13 +51,13 @@ public class AuthController {
 
     // Login and get JWT token
     @PostMapping("/login")
-    public ResponseEntity<?> login(@RequestBody Map<String, String> request) {
+    public ResponseEntity<?> login(@RequestBody Map<String, String> request, HttpServletRequest httpRequest) {
         try {
             String username = request.get("username");
             String password = request.get("password");
 
             // Authenticate user
-            User user = authService.authenticateUser(username, password);
+            User user = authService.authenticateUser(username, password, httpRequest.getRemoteAddr());
 
             // Generate JWT token
             String token = jwtUtil.generateToken(user.getUsername());
@@ -63,6 +68,8 @@ public class AuthController {
             response.put("token", token);
 
             return ResponseEntity.ok(response);
+        } catch (TooManyRequestsException | ServiceBusyException e) {
+            throw e; // 429 / 503 from GlobalExceptionHandler
         } catch (RuntimeException e) {
             Map<String, String> error = new HashMap<>();
             error.put("error", e.getMessage());
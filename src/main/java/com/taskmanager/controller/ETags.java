@@ -0,0 +1,64 @@
+package com.taskmanager.controller;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+// Strong ETags built from an entity's @Version, e.g. "7". A representation that embeds data
+// changing without that version bump (a project's task count, a task's project name) adds a
+// second part for it: "7.3".
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    // derived == null (e.g. a task without a project) gives the plain "<version>"
+    static String of(Long version, Long derived) {
+        return derived != null ? "\"" + version + "." + derived + "\"" : of(version);
+    }
+
+    // If-None-Match uses weak comparison: W/"7" matches "7", and * matches anything
+    static boolean noneMatchHits(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Versions accepted by an If-Match header, or null when the update is unconditional
+    // (no header, or *). Weak or malformed tags never match, so they add nothing. Only the
+    // version part of "7.3" counts: an update replaces the entity's own fields, which a
+    // change to the derived part (another task, the project's name) leaves untouched.
+    static Set<Long> ifMatchVersions(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new LinkedHashSet<>();
+        for (String candidate : ifMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                String value = tag.substring(1, tag.length() - 1);
+                int derived = value.indexOf('.');
+                try {
+                    versions.add(Long.parseLong(derived >= 0 ? value.substring(0, derived) : value));
+                } catch (NumberFormatException e) {
+                    // not one of ours - can't match
+                }
+            }
+        }
+        return versions;
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
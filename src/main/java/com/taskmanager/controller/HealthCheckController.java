@@ -1,5 +1,11 @@
 package com.taskmanager.controller;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.health.actuate.endpoint.HealthDescriptor;
+import org.springframework.boot.health.actuate.endpoint.HealthEndpoint;
+import org.springframework.boot.health.contributor.Status;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -12,13 +18,21 @@ import java.util.Map;
 @RequestMapping("/api")
 public class HealthCheckController {
 
+    @Autowired
+    private HealthEndpoint healthEndpoint;
+
+    // Same answer as /actuator/health/readiness (application state plus a database probe);
+    // 503 while not ready. Liveness is /actuator/health/liveness.
     @GetMapping("/health")
-    public Map<String, Object> healthCheck() {
+    public ResponseEntity<Map<String, Object>> healthCheck() {
+        HealthDescriptor readiness = healthEndpoint.healthForPath("readiness");
+        Status status = readiness != null ? readiness.getStatus() : Status.UNKNOWN;
+        boolean up = Status.UP.equals(status);
+
         Map<String, Object> response = new HashMap<>();
-        response.put("status", "UP");
-        response.put("message", "Task Management API is running!");
+        response.put("status", status.getCode());
+        response.put("message", up ? "Task Management API is running!" : "Task Management API is not ready");
         response.put("timestamp", LocalDateTime.now());
-        return response;
+        return ResponseEntity.status(up ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(response);
     }
 }
-
@@ -0,0 +1,24 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.exception.TaskNotFoundException;
+import com.taskmanager.service.BulkDeleteJob;
+import com.taskmanager.service.BulkDeleteService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/jobs")
+public class JobController {
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    // Progress of a background bulk delete (kept while it runs and for an hour after it finished)
+    @GetMapping("/{id}")
+    public ResponseEntity<BulkDeleteJob> getJob(@PathVariable String id) {
+        BulkDeleteJob job = bulkDeleteService.getJob(id)
+                .orElseThrow(() -> new TaskNotFoundException("Job not found with id: " + id));
+        return ResponseEntity.ok(job);
+    }
+}
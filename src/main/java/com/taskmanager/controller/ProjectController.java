@@ -1,6 +1,12 @@
 package com.taskmanager.controller;
 
+import com.taskmanager.dto.PageResponse;
+import com.taskmanager.dto.ProjectSummary;
+import com.taskmanager.dto.TaskCountsResponse;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.TaskNotFoundException;
 import com.taskmanager.model.Project;
+import com.taskmanager.service.BulkDeleteJob;
 import com.taskmanager.service.ProjectService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,10 +14,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/projects")
 public class ProjectController {
@@ -28,42 +37,76 @@ public class ProjectController {
 
     // Get all projects (with pagination and sorting)
     @GetMapping
-    public ResponseEntity<Page<Project>> getAllProjects(
+    public ResponseEntity<PageResponse<ProjectSummary>> getAllProjects(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir) {
 
+        if (size < 1 || size > 1000) {
+            throw new BadRequestException("Size must be between 1 and 1000");
+        }
+
         Sort sort = sortDir.equalsIgnoreCase("asc")
                 ? Sort.by(sortBy).ascending()
                 : Sort.by(sortBy).descending();
 
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Project> projects = projectService.getAllProjects(pageable);
+        Page<ProjectSummary> projects = projectService.getAllProjects(pageable);
 
-        return ResponseEntity.ok(projects);
+        return ResponseEntity.ok(PageResponse.of(projects));
     }
 
     // Get project by ID
+    // Conditional polls (If-None-Match) that are still current get 304 from a lookup of the
+    // version alone; the ETag covers the task count too, since it changes without a version bump
     @GetMapping("/{id}")
-    public ResponseEntity<Project> getProjectById(@PathVariable Long id) {
-        Project project = projectService.getProjectById(id);
-        return ResponseEntity.ok(project);
+    public ResponseEntity<ProjectSummary> getProjectById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (ifNoneMatch != null) {
+            Long version = projectService.getProjectVersion(id)
+                    .orElseThrow(() -> new TaskNotFoundException("Project not found with id: " + id));
+            String etag = projectETag(id, version);
+            if (ETags.noneMatchHits(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+
+        ProjectSummary project = projectService.getProjectSummary(id);
+        return ResponseEntity.ok().eTag(projectETag(id, project.getVersion())).body(project);
+    }
+
+    // Get task counts for a project - GET /api/projects/{id}/task-counts
+    @GetMapping("/{id}/task-counts")
+    public ResponseEntity<TaskCountsResponse> getTaskCounts(@PathVariable Long id) {
+        TaskCountsResponse counts = projectService.getTaskCounts(id);
+        return ResponseEntity.ok(counts);
     }
 
     // Update project
+    // If-Match: "<version>" makes the update conditional (412 when the project has changed)
     @PutMapping("/{id}")
     public ResponseEntity<Project> updateProject(
             @PathVariable Long id,
-            @Valid @RequestBody Project projectDetails) {
-        Project updatedProject = projectService.updateProject(id, projectDetails);
-        return ResponseEntity.ok(updatedProject);
+            @Valid @RequestBody Project projectDetails,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        Project updatedProject = projectService.updateProject(id, projectDetails, ETags.ifMatchVersions(ifMatch));
+        return ResponseEntity.ok().eTag(projectETag(id, updatedProject.getVersion())).body(updatedProject);
     }
 
-    // Delete project
+    // Delete project - 204 when done, 202 + job (poll GET /api/jobs/{id}) for large projects
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
-        projectService.deleteProject(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<BulkDeleteJob> deleteProject(@PathVariable Long id) {
+        return projectService.deleteProject(id)
+                .map(job -> ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.getId())).body(job))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    // The same tag from GET, its 304 path and PUT: the version plus the task count from the
+    // in-memory counters, so a client can poll with the tag any of them returned
+    private String projectETag(Long id, Long version) {
+        return ETags.of(version, projectService.getTaskTotal(id));
     }
-}
\ No newline at end of file
+}
@@ -1,31 +1,71 @@
 package com.taskmanager.controller;
 
+import com.taskmanager.dto.BatchResponse;
+import com.taskmanager.dto.BatchUpdateTaskRequest;
 import com.taskmanager.dto.CreateTaskRequest;
+import com.taskmanager.dto.CursorPage;
+import com.taskmanager.dto.ImportSummary;
+import com.taskmanager.dto.PageResponse;
+import com.taskmanager.dto.PatchTaskRequest;
 import com.taskmanager.dto.UpdateTaskRequest;
+import com.taskmanager.exception.BadRequestException;
 import com.taskmanager.exception.TaskNotFoundException;
 import com.taskmanager.model.Priority;
 import com.taskmanager.model.Status;
 import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskTagRow;
+import com.taskmanager.service.BulkDeleteJob;
+import com.taskmanager.service.ChangeFeed;
+import com.taskmanager.service.TaskBatchService;
+import com.taskmanager.service.TaskExportService;
+import com.taskmanager.service.TaskImportService;
+import com.taskmanager.service.TaskSearchService;
 import com.taskmanager.service.TaskService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.util.Optional;
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+    private static final Logger log = LoggerFactory.getLogger(TaskController.class);
+
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskExportService taskExportService;
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
     // CREATE - POST /api/tasks
     @PostMapping
     public ResponseEntity<Task> createTask(@Valid @RequestBody CreateTaskRequest request) {
@@ -43,7 +83,7 @@ public class TaskController {
 
     // READ ALL - GET /api/tasks
     @GetMapping
-    public ResponseEntity<Page<Task>> getAllTasks(
+    public ResponseEntity<PageResponse<Task>> getAllTasks(
             @RequestParam(required = false) Status status,
             @RequestParam(required = false) Priority priority,
             @RequestParam(required = false) Long projectId,
@@ -61,20 +101,134 @@ public class TaskController {
         Pageable pageable = PageRequest.of(page, size, sort);
 
         Page<Task> tasks = taskService.getAllTasks(status, priority, projectId, pageable);
+        return ResponseEntity.ok(PageResponse.of(tasks));
+    }
+
+    // EXPORT - GET /api/tasks/export?format=ndjson|csv (same filters as the list)
+    // Written to the response as rows are read, in id order; memory use is flat
+    @GetMapping("/export")
+    public void exportTasks(
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+
+        TaskExportService.Format exportFormat = switch (format.toLowerCase()) {
+            case "ndjson" -> TaskExportService.Format.NDJSON;
+            case "csv" -> TaskExportService.Format.CSV;
+            default -> throw new BadRequestException("Format must be ndjson or csv");
+        };
+
+        response.setContentType(exportFormat == TaskExportService.Format.CSV
+                ? "text/csv;charset=UTF-8"
+                : "application/x-ndjson;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"tasks." + format.toLowerCase() + "\"");
+
+        try {
+            taskExportService.export(status, priority, projectId, exportFormat, response.getOutputStream());
+        } catch (IOException e) {
+            // Client went away mid-export; the cursor is already closed, nothing left to send
+            log.debug("Task export aborted: {}", e.getMessage());
+        }
+    }
+
+    // IMPORT - POST /api/tasks/import?format=ndjson|csv
+    // The body is read as a stream and written in chunks; bad rows are reported, not fatal
+    @PostMapping("/import")
+    public ResponseEntity<ImportSummary> importTasks(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) throws IOException {
+
+        TaskImportService.Format importFormat = switch (format.toLowerCase()) {
+            case "ndjson" -> TaskImportService.Format.NDJSON;
+            case "csv" -> TaskImportService.Format.CSV;
+            default -> throw new BadRequestException("Format must be ndjson or csv");
+        };
+
+        return ResponseEntity.ok(taskImportService.importTasks(request.getInputStream(), importFormat));
+    }
+
+    // READ ALL (cursor mode) - GET /api/tasks?after=
+    // Pass an empty "after" for the first page, then the returned nextCursor
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorPage<Task>> getTasksAfter(
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+
+        if (size < 1 || size > 1000) {
+            throw new BadRequestException("Size must be between 1 and 1000");
+        }
+
+        Sort.Direction direction = sortDir.equalsIgnoreCase("asc")
+                ? Sort.Direction.ASC
+                : Sort.Direction.DESC;
+
+        CursorPage<Task> tasks = taskService.getTasksAfter(status, priority, projectId, after, size, sortBy, direction);
         return ResponseEntity.ok(tasks);
     }
 
+    // SEARCH - GET /api/tasks/search?q=
+    // Relevance-ranked full-text search, cursor-paged like the list ("after" empty or omitted for page 1)
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<Task>> searchTasks(
+            @RequestParam String q,
+            @RequestParam(required = false) Status status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+
+        if (size < 1 || size > 1000) {
+            throw new BadRequestException("Size must be between 1 and 1000");
+        }
+
+        return ResponseEntity.ok(taskSearchService.search(q, status, priority, projectId, after, size));
+    }
+
+    // STREAM - GET /api/tasks/stream?projectId= (Server-Sent Events)
+    // Task and project changes as they commit, instead of polling the list
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(required = false) Long projectId) {
+        return changeFeed.subscribe(projectId);
+    }
+
     // READ ONE - GET /api/tasks/{id}
+    // Conditional polls (If-None-Match) that are still current get 304 from a lookup of the
+    // task's and its project's versions, without loading or serializing the task. The project
+    // version is in the ETag because the body embeds the project's name.
     @GetMapping("/{id}")
-    public ResponseEntity<Task> getTaskById(@PathVariable Long id) {
-        Optional<Task> task = taskService.getTaskById(id);
-        return task.map(ResponseEntity::ok)
+    public ResponseEntity<Task> getTaskById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        if (ifNoneMatch != null) {
+            TaskTagRow tag = taskService.getTaskTag(id)
+                    .orElseThrow(() -> new TaskNotFoundException(id));
+            String etag = ETags.of(tag.getVersion(), tag.getProjectVersion());
+            if (ETags.noneMatchHits(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+        }
+
+        Task task = taskService.getTaskById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
+        return ResponseEntity.ok().eTag(etagOf(task)).body(task);
     }
 
     // UPDATE - PUT /api/tasks/{id}
     @PutMapping("/{id}")
-    public ResponseEntity<Task> updateTask(@PathVariable Long id, @Valid @RequestBody UpdateTaskRequest request) {
+    // If-Match: "<version>" makes the update conditional (412 when the task has changed)
+    public ResponseEntity<Task> updateTask(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateTaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         // Convert DTO to Entity
         Task taskDetails = new Task();
         taskDetails.setTitle(request.getTitle());
@@ -83,8 +237,24 @@ public class TaskController {
         taskDetails.setPriority(request.getPriority());
 
         // Pass projectId to service layer
-        Task task = taskService.updateTask(id, taskDetails, request.getProjectId());
-        return ResponseEntity.ok(task);
+        Task task = taskService.updateTask(id, taskDetails, request.getProjectId(), ETags.ifMatchVersions(ifMatch));
+        return ResponseEntity.ok().eTag(etagOf(task)).body(task);
+    }
+
+    // PATCH - PATCH /api/tasks/{id}
+    // Only the fields present in the body change. If-Match: "<version>" (412 when the task has
+    // changed) or, failing that, "version" in the body (409) says which version is patched.
+    // 204 with the new ETag.
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchTask(
+            @PathVariable Long id,
+            @Valid @RequestBody PatchTaskRequest request,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch == null && request.getVersion() == null) {
+            throw new BadRequestException("If-Match header or version is required");
+        }
+        long version = taskService.patchTask(id, request, ETags.ifMatchVersions(ifMatch));
+        return ResponseEntity.noContent().eTag(ETags.of(version)).build();
     }
 
     // DELETE - DELETE /api/tasks/{id}
@@ -94,10 +264,37 @@ public class TaskController {
         return ResponseEntity.noContent().build();
     }
 
-    // DELETE ALL
+    // DELETE ALL - 204 when done, 202 + job (poll GET /api/jobs/{id}) for large deletes
     @DeleteMapping()
-    public ResponseEntity<Void> deleteAllTasks() {
-        taskService.deleteAllTasks();
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<BulkDeleteJob> deleteAllTasks() {
+        return taskService.deleteAllTasks()
+                .map(job -> ResponseEntity.accepted().location(URI.create("/api/jobs/" + job.getId())).body(job))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    // BATCH CREATE - POST /api/tasks/batch
+    // Each item is validated like POST /api/tasks; results come back in request order
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> createTasks(@RequestBody List<CreateTaskRequest> requests) {
+        BatchResponse response = taskBatchService.createTasks(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    // BATCH UPDATE - PATCH /api/tasks/batch
+    @PatchMapping("/batch")
+    public ResponseEntity<BatchResponse> updateTasks(@RequestBody List<BatchUpdateTaskRequest> requests) {
+        BatchResponse response = taskBatchService.updateTasks(requests);
+        return ResponseEntity.ok(response);
+    }
+
+    // BATCH DELETE - DELETE /api/tasks/batch (body: list of task ids)
+    @DeleteMapping("/batch")
+    public ResponseEntity<BatchResponse> deleteTasks(@RequestBody List<Long> ids) {
+        BatchResponse response = taskBatchService.deleteTasks(ids);
+        return ResponseEntity.ok(response);
+    }
+
+    private static String etagOf(Task task) {
+        return ETags.of(task.getVersion(), task.getProject() != null ? task.getProject().getVersion() : null);
     }
 }
\ No newline at end of file
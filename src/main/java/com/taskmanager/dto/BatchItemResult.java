@@ -0,0 +1,60 @@
+package com.taskmanager.dto;
+
+import java.util.List;
+
+// Outcome of one item of a batch request; results are returned in request order
+public class BatchItemResult {
+
+    public enum Outcome {
+        CREATED,
+        UPDATED,
+        DELETED,
+        INVALID,
+        NOT_FOUND
+    }
+
+    private int index;
+    private Long id;
+    private Outcome outcome;
+    private List<String> errors;
+
+    // Constructors
+    public BatchItemResult() {
+    }
+
+    public BatchItemResult(int index, Long id, Outcome outcome, List<String> errors) {
+        this.index = index;
+        this.id = id;
+        this.outcome = outcome;
+        this.errors = errors;
+    }
+
+    public static BatchItemResult success(int index, Long id, Outcome outcome) {
+        return new BatchItemResult(index, id, outcome, List.of());
+    }
+
+    public static BatchItemResult failure(int index, Long id, Outcome outcome, List<String> errors) {
+        return new BatchItemResult(index, id, outcome, errors);
+    }
+
+    // Getters
+    public int getIndex() {
+        return index;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public boolean isSuccess() {
+        return outcome == Outcome.CREATED || outcome == Outcome.UPDATED || outcome == Outcome.DELETED;
+    }
+}
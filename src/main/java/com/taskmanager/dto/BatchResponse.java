@@ -0,0 +1,33 @@
+package com.taskmanager.dto;
+
+import java.util.List;
+
+public class BatchResponse {
+
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResult> results;
+
+    // Constructors
+    public BatchResponse() {
+    }
+
+    public BatchResponse(List<BatchItemResult> results) {
+        this.results = results;
+        this.succeeded = (int) results.stream().filter(BatchItemResult::isSuccess).count();
+        this.failed = results.size() - succeeded;
+    }
+
+    // Getters
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<BatchItemResult> getResults() {
+        return results;
+    }
+}
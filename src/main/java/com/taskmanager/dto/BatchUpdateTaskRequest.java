@@ -0,0 +1,23 @@
+package com.taskmanager.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+// One item of PATCH /api/tasks/batch: the task id plus the same fields as a PUT
+public class BatchUpdateTaskRequest extends UpdateTaskRequest {
+
+    @NotNull(message = "Id is required")
+    private Long id;
+
+    // Constructors
+    public BatchUpdateTaskRequest() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
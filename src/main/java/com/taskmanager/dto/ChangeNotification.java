@@ -0,0 +1,78 @@
+package com.taskmanager.dto;
+
+import java.util.Set;
+
+// One entry of the change feed (GET /api/tasks/stream), also the NOTIFY payload between
+// nodes. Carries ids only; clients re-read what they show (conditional GETs make that cheap).
+public class ChangeNotification {
+
+    public enum Entity {
+        TASK,
+        PROJECT
+    }
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED,
+        BULK_CHANGED  // many tasks changed at once: re-read the listed projects
+    }
+
+    private Entity entity;
+    private Type type;
+    private Long id;               // null for BULK_CHANGED
+    private Set<Long> projectIds;  // projects affected (a null element = unassigned tasks); null = every project
+
+    // Constructors
+    public ChangeNotification() {
+    }
+
+    public ChangeNotification(Entity entity, Type type, Long id, Set<Long> projectIds) {
+        this.entity = entity;
+        this.type = type;
+        this.id = id;
+        this.projectIds = projectIds;
+    }
+
+    public static ChangeNotification bulk(Set<Long> projectIds) {
+        return new ChangeNotification(Entity.TASK, Type.BULK_CHANGED, null, projectIds);
+    }
+
+    // A subscriber filtered on projectId (null = unfiltered) gets this notification
+    public boolean concerns(Long projectId) {
+        return projectId == null || projectIds == null || projectIds.contains(projectId);
+    }
+
+    // Getters and Setters
+    public Entity getEntity() {
+        return entity;
+    }
+
+    public void setEntity(Entity entity) {
+        this.entity = entity;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public void setType(Type type) {
+        this.type = type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Set<Long> getProjectIds() {
+        return projectIds;
+    }
+
+    public void setProjectIds(Set<Long> projectIds) {
+        this.projectIds = projectIds;
+    }
+}
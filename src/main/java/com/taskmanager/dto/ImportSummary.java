@@ -0,0 +1,50 @@
+package com.taskmanager.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Result of POST /api/tasks/import. Rejected rows are listed by row number (1-based,
+// header excluded) up to a limit, so a huge bad file can't blow up the response.
+public class ImportSummary {
+
+    private long accepted;
+    private long rejected;
+    private final List<BatchItemResult> rejections = new ArrayList<>();
+    private boolean rejectionsTruncated;
+
+    private final int maxRejections;
+
+    public ImportSummary(int maxRejections) {
+        this.maxRejections = maxRejections;
+    }
+
+    public void accept(long count) {
+        accepted += count;
+    }
+
+    public void reject(long rowNumber, BatchItemResult.Outcome outcome, List<String> errors) {
+        rejected++;
+        if (rejections.size() < maxRejections) {
+            rejections.add(BatchItemResult.failure((int) rowNumber, null, outcome, errors));
+        } else {
+            rejectionsTruncated = true;
+        }
+    }
+
+    // Getters
+    public long getAccepted() {
+        return accepted;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public List<BatchItemResult> getRejections() {
+        return rejections;
+    }
+
+    public boolean isRejectionsTruncated() {
+        return rejectionsTruncated;
+    }
+}
@@ -0,0 +1,61 @@
+package com.taskmanager.dto;
+
+import org.springframework.data.domain.Page;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.util.List;
+
+// Body of the paged list endpoints (GET /api/tasks, GET /api/projects): the page's items and
+// the numbers clients page with. Replaces serializing Spring Data's PageImpl, which also
+// carried pageable/sort metadata. Written by PageResponseSerializer.
+@JsonSerialize(using = PageResponseSerializer.class)
+public class PageResponse<T> {
+
+    private final List<T> content;
+    private final int number;
+    private final int size;
+    private final long totalElements;
+    private final int totalPages;
+
+    public PageResponse(List<T> content, int number, int size, long totalElements, int totalPages) {
+        this.content = content;
+        this.number = number;
+        this.size = size;
+        this.totalElements = totalElements;
+        this.totalPages = totalPages;
+    }
+
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+
+    // Getters
+    public List<T> getContent() {
+        return content;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public int getTotalPages() {
+        return totalPages;
+    }
+
+    public boolean isFirst() {
+        return number == 0;
+    }
+
+    public boolean isLast() {
+        return number + 1 >= totalPages;
+    }
+}
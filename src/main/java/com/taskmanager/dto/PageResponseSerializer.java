@@ -0,0 +1,205 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+// Writes a PageResponse field by field onto the response's generator, which streams to the
+// output. Tasks and project summaries are written by hand: property names and enum values
+// are pre-encoded, timestamps are formatted into one reused char buffer, and no bean
+// introspection or per-property reflection happens. Items produce the same JSON values as
+// the default Task/ProjectSummary serialization (PageResponseSerializerTest checks this).
+public class PageResponseSerializer extends StdSerializer<PageResponse<?>> {
+
+    private static final SerializableString CONTENT = new SerializedString("content");
+    private static final SerializableString NUMBER = new SerializedString("number");
+    private static final SerializableString SIZE = new SerializedString("size");
+    private static final SerializableString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializableString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializableString FIRST = new SerializedString("first");
+    private static final SerializableString LAST = new SerializedString("last");
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString PRIORITY = new SerializedString("priority");
+    private static final SerializableString PROJECT = new SerializedString("project");
+    private static final SerializableString TASK_COUNT = new SerializedString("taskCount");
+    private static final SerializableString VERSION = new SerializedString("version");
+    private static final SerializableString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializableString UPDATED_AT = new SerializedString("updatedAt");
+
+    private static final SerializableString[] STATUS_VALUES = Arrays.stream(Status.values())
+            .map(status -> new SerializedString(status.name())).toArray(SerializableString[]::new);
+    private static final SerializableString[] PRIORITY_VALUES = Arrays.stream(Priority.values())
+            .map(priority -> new SerializedString(priority.name())).toArray(SerializableString[]::new);
+
+    // "yyyy-MM-ddTHH:mm:ss.nnnnnnnnn"
+    private static final int TIMESTAMP_LENGTH = 29;
+
+    public PageResponseSerializer() {
+        super(PageResponse.class);
+    }
+
+    @Override
+    public void serialize(PageResponse<?> page, JsonGenerator gen, SerializationContext ctxt) {
+        char[] timestamp = new char[TIMESTAMP_LENGTH];
+
+        gen.writeStartObject();
+        gen.writeName(CONTENT);
+        gen.writeStartArray();
+        for (Object item : page.getContent()) {
+            if (item instanceof Task task) {
+                writeTask(task, gen, timestamp);
+            } else if (item instanceof ProjectSummary project) {
+                writeProject(project, gen, timestamp);
+            } else {
+                ctxt.writeValue(gen, item);
+            }
+        }
+        gen.writeEndArray();
+
+        gen.writeName(NUMBER);
+        gen.writeNumber(page.getNumber());
+        gen.writeName(SIZE);
+        gen.writeNumber(page.getSize());
+        gen.writeName(TOTAL_ELEMENTS);
+        gen.writeNumber(page.getTotalElements());
+        gen.writeName(TOTAL_PAGES);
+        gen.writeNumber(page.getTotalPages());
+        gen.writeName(FIRST);
+        gen.writeBoolean(page.isFirst());
+        gen.writeName(LAST);
+        gen.writeBoolean(page.isLast());
+        gen.writeEndObject();
+    }
+
+    // Same properties as Task's default serialization; the project as {"id", "name"}
+    static void writeTask(Task task, JsonGenerator gen, char[] timestamp) {
+        gen.writeStartObject();
+        gen.writeName(ID);
+        writeNumber(gen, task.getId());
+        gen.writeName(TITLE);
+        gen.writeString(task.getTitle());
+        gen.writeName(DESCRIPTION);
+        gen.writeString(task.getDescription());
+        gen.writeName(STATUS);
+        writeEnum(gen, task.getStatus(), STATUS_VALUES);
+        gen.writeName(PRIORITY);
+        writeEnum(gen, task.getPriority(), PRIORITY_VALUES);
+
+        gen.writeName(PROJECT);
+        Project project = task.getProject();
+        if (project == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject();
+            gen.writeName(ID);
+            writeNumber(gen, project.getId());
+            gen.writeName(NAME);
+            gen.writeString(project.getName());
+            gen.writeEndObject();
+        }
+
+        gen.writeName(VERSION);
+        writeNumber(gen, task.getVersion());
+        gen.writeName(CREATED_AT);
+        writeTimestamp(gen, task.getCreatedAt(), timestamp);
+        gen.writeName(UPDATED_AT);
+        writeTimestamp(gen, task.getUpdatedAt(), timestamp);
+        gen.writeEndObject();
+    }
+
+    static void writeProject(ProjectSummary project, JsonGenerator gen, char[] timestamp) {
+        gen.writeStartObject();
+        gen.writeName(ID);
+        writeNumber(gen, project.getId());
+        gen.writeName(NAME);
+        gen.writeString(project.getName());
+        gen.writeName(DESCRIPTION);
+        gen.writeString(project.getDescription());
+        gen.writeName(TASK_COUNT);
+        gen.writeNumber(project.getTaskCount());
+        gen.writeName(CREATED_AT);
+        writeTimestamp(gen, project.getCreatedAt(), timestamp);
+        gen.writeName(UPDATED_AT);
+        writeTimestamp(gen, project.getUpdatedAt(), timestamp);
+        gen.writeName(VERSION);
+        writeNumber(gen, project.getVersion());
+        gen.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator gen, Long value) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    private static void writeEnum(JsonGenerator gen, Enum<?> value, SerializableString[] encoded) {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeString(encoded[value.ordinal()]);
+        }
+    }
+
+    // ISO_LOCAL_DATE_TIME, as Jackson writes LocalDateTime: seconds always present, the
+    // fraction without trailing zeros (omitted when zero)
+    private static void writeTimestamp(JsonGenerator gen, LocalDateTime value, char[] buffer) {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+            return;
+        }
+
+        digits(buffer, 0, year, 4);
+        buffer[4] = '-';
+        digits(buffer, 5, value.getMonthValue(), 2);
+        buffer[7] = '-';
+        digits(buffer, 8, value.getDayOfMonth(), 2);
+        buffer[10] = 'T';
+        digits(buffer, 11, value.getHour(), 2);
+        buffer[13] = ':';
+        digits(buffer, 14, value.getMinute(), 2);
+        buffer[16] = ':';
+        digits(buffer, 17, value.getSecond(), 2);
+        int length = 19;
+
+        int nanos = value.getNano();
+        if (nanos > 0) {
+            buffer[19] = '.';
+            digits(buffer, 20, nanos, 9);
+            length = TIMESTAMP_LENGTH;
+            while (buffer[length - 1] == '0') {
+                length--;
+            }
+        }
+        gen.writeString(buffer, 0, length);
+    }
+
+    // value as exactly `width` digits, zero-padded
+    private static void digits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
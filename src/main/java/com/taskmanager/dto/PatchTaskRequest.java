@@ -0,0 +1,102 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Status;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+
+// Body of PATCH /api/tasks/{id}. Only fields present in the JSON change. Title, status and
+// priority can't be cleared, so null means "leave as is"; description and projectId can,
+// so their setters record that the key was sent (an explicit null clears the column).
+// "version" is only needed when the request has no If-Match header.
+public class PatchTaskRequest {
+
+    private Long version;
+
+    @Size(min = 1, max = 100, message = "Title must be between 1 and 100 characters")
+    @Pattern(regexp = ".*\\S.*", message = "Title cannot be empty")
+    private String title;
+
+    @Size(max = 500, message = "Description cannot exceed 500 characters")
+    private String description;
+    private boolean descriptionSent;
+
+    private Status status;
+
+    private Priority priority;
+
+    private Long projectId;
+    private boolean projectIdSent;
+
+    // Constructors
+    public PatchTaskRequest() {
+    }
+
+    // True when the patch touches a column the task counters are keyed on
+    public boolean changesCountedFields() {
+        return status != null || priority != null || projectIdSent;
+    }
+
+    public boolean isEmpty() {
+        return title == null && !descriptionSent && !changesCountedFields();
+    }
+
+    public boolean hasDescription() {
+        return descriptionSent;
+    }
+
+    public boolean hasProjectId() {
+        return projectIdSent;
+    }
+
+    // Getters and Setters
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+        this.descriptionSent = true;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Priority priority) {
+        this.priority = priority;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+        this.projectIdSent = true;
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskmanager.dto;
+
+import java.time.LocalDateTime;
+
+// Project as returned by the list/get endpoints: no task collection, just its size.
+// Built directly by a JPQL constructor expression, so no Project entities are loaded.
+public class ProjectSummary {
+
+    private Long id;
+    private String name;
+    private String description;
+    private long taskCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+
+    // Constructors
+    public ProjectSummary() {
+    }
+
+    public ProjectSummary(Long id, String name, String description, long taskCount,
+                          LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.taskCount = taskCount;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+}
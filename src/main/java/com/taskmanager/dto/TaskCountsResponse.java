@@ -0,0 +1,42 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Status;
+
+import java.util.Map;
+
+public class TaskCountsResponse {
+
+    private Long projectId;
+    private long total;
+    private Map<Status, Long> byStatus;
+    private Map<Priority, Long> byPriority;
+
+    // Constructors
+    public TaskCountsResponse() {
+    }
+
+    public TaskCountsResponse(Long projectId, long total, Map<Status, Long> byStatus, Map<Priority, Long> byPriority) {
+        this.projectId = projectId;
+        this.total = total;
+        this.byStatus = byStatus;
+        this.byPriority = byPriority;
+    }
+
+    // Getters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<Status, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public Map<Priority, Long> getByPriority() {
+        return byPriority;
+    }
+}
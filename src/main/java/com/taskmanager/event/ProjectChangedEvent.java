@@ -0,0 +1,40 @@
+package com.taskmanager.event;
+
+// Published for every project create/update/delete. Tasks of a deleted project are
+// reported separately, by the TasksBulkChangedEvent of the bulk delete.
+public class ProjectChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long projectId;
+
+    private ProjectChangedEvent(Type type, Long projectId) {
+        this.type = type;
+        this.projectId = projectId;
+    }
+
+    public static ProjectChangedEvent created(Long projectId) {
+        return new ProjectChangedEvent(Type.CREATED, projectId);
+    }
+
+    public static ProjectChangedEvent updated(Long projectId) {
+        return new ProjectChangedEvent(Type.UPDATED, projectId);
+    }
+
+    public static ProjectChangedEvent deleted(Long projectId) {
+        return new ProjectChangedEvent(Type.DELETED, projectId);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+}
@@ -0,0 +1,96 @@
+package com.taskmanager.event;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+
+// Published by TaskService for every single-task write. Listeners that keep
+// derived state (counters, caches, change feeds) react to it after commit.
+public class TaskChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long taskId;
+    private final Snapshot before;  // null for CREATED and content-only updates
+    private final Snapshot after;   // null for DELETED and content-only updates
+
+    private TaskChangedEvent(Type type, Long taskId, Snapshot before, Snapshot after) {
+        this.type = type;
+        this.taskId = taskId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public static TaskChangedEvent created(Task task) {
+        return new TaskChangedEvent(Type.CREATED, task.getId(), null, Snapshot.of(task));
+    }
+
+    public static TaskChangedEvent updated(Snapshot before, Task task) {
+        return new TaskChangedEvent(Type.UPDATED, task.getId(), before, Snapshot.of(task));
+    }
+
+    public static TaskChangedEvent updated(Long taskId, Snapshot before, Snapshot after) {
+        return new TaskChangedEvent(Type.UPDATED, taskId, before, after);
+    }
+
+    // Only title/description changed (a PATCH that never read the row): counts are unaffected
+    public static TaskChangedEvent contentUpdated(Long taskId) {
+        return new TaskChangedEvent(Type.UPDATED, taskId, null, null);
+    }
+
+    public static TaskChangedEvent deleted(Task task) {
+        return new TaskChangedEvent(Type.DELETED, task.getId(), Snapshot.of(task), null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Snapshot getBefore() {
+        return before;
+    }
+
+    public Snapshot getAfter() {
+        return after;
+    }
+
+    // The columns derived state is keyed on, captured at one point in time
+    public static class Snapshot {
+
+        private final Long projectId;
+        private final Status status;
+        private final Priority priority;
+
+        public Snapshot(Long projectId, Status status, Priority priority) {
+            this.projectId = projectId;
+            this.status = status;
+            this.priority = priority;
+        }
+
+        public static Snapshot of(Task task) {
+            Long projectId = task.getProject() != null ? task.getProject().getId() : null;
+            return new Snapshot(projectId, task.getStatus(), task.getPriority());
+        }
+
+        public Long getProjectId() {
+            return projectId;
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        public Priority getPriority() {
+            return priority;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.taskmanager.event;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+// Published when tasks are changed in bulk (delete all, project delete, import) and
+// per-task events would be too many. Listeners should re-read the affected scope.
+public class TasksBulkChangedEvent {
+
+    private final Set<Long> projectIds;  // null means every project (and unassigned tasks)
+
+    private TasksBulkChangedEvent(Set<Long> projectIds) {
+        this.projectIds = projectIds;
+    }
+
+    public static TasksBulkChangedEvent allProjects() {
+        return new TasksBulkChangedEvent(null);
+    }
+
+    public static TasksBulkChangedEvent forProject(Long projectId) {
+        return new TasksBulkChangedEvent(Set.of(projectId));
+    }
+
+    // A null id stands for unassigned tasks
+    public static TasksBulkChangedEvent forProjects(Collection<Long> projectIds) {
+        return new TasksBulkChangedEvent(new HashSet<>(projectIds));
+    }
+
+    public boolean isAllProjects() {
+        return projectIds == null;
+    }
+
+    public Set<Long> getProjectIds() {
+        return projectIds;
+    }
+}
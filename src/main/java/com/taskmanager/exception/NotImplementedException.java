@@ -0,0 +1,9 @@
+package com.taskmanager.exception;
+
+// A feature this deployment can't offer, e.g. one that needs a database it isn't running on
+public class NotImplementedException extends RuntimeException {
+
+    public NotImplementedException(String message) {
+        super(message);
+    }
+}
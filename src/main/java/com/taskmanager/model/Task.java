@@ -1,20 +1,25 @@
 package com.taskmanager.model;
 
-import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIncludeProperties;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
+// Dynamic update: UPDATEs list only the columns that actually changed
 @Entity
 @Table(name = "tasks")
+@DynamicUpdate
 public class Task {
 
+    // Pooled sequence: one round trip reserves 50 ids, and inserts can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Title cannot be empty")
@@ -27,21 +32,31 @@ public class Task {
     private String description;
 
     @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
     private Priority priority;
 
-    @ManyToOne
+    // Lazy so loading tasks never pulls projects on its own; the list and get-by-id
+    // queries join it in through @EntityGraph (see TaskRepository). Serialized as a
+    // small summary rather than the whole project.
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "project_id")
-    @JsonIgnoreProperties("tasks")
+    @JsonIncludeProperties({"id", "name"})
     private Project project;
 
     @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
     private Status status;
 
+    // Bumped on every update; used for optimistic locking and as the ETag
+    @Version
+    private Long version;
+
     @CreationTimestamp
-    @Column(updatable = false)
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @UpdateTimestamp
+    @Column(nullable = false)
     private LocalDateTime updatedAt;
 
     // Constructors
@@ -112,6 +127,14 @@ public class Task {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Project getProject() {
         return project;
     }
@@ -1,11 +1,34 @@
 package com.taskmanager.repository;
 
+import com.taskmanager.dto.ProjectSummary;
 import com.taskmanager.model.Project;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     // JpaRepository gives us all CRUD methods for free
-    // We can add custom queries here if needed later
-}
\ No newline at end of file
+
+    // One page of projects with their task counts: a single LEFT JOIN ... GROUP BY
+    // (plus the page COUNT), however many tasks the projects hold
+    @Query(value = "SELECT new com.taskmanager.dto.ProjectSummary(p.id, p.name, p.description, COUNT(t), p.createdAt, p.updatedAt, p.version) " +
+            "FROM Project p LEFT JOIN p.tasks t " +
+            "GROUP BY p.id, p.name, p.description, p.createdAt, p.updatedAt, p.version",
+            countQuery = "SELECT COUNT(p) FROM Project p")
+    Page<ProjectSummary> findAllSummaries(Pageable pageable);
+
+    @Query("SELECT new com.taskmanager.dto.ProjectSummary(p.id, p.name, p.description, COUNT(t), p.createdAt, p.updatedAt, p.version) " +
+            "FROM Project p LEFT JOIN p.tasks t WHERE p.id = :id " +
+            "GROUP BY p.id, p.name, p.description, p.createdAt, p.updatedAt, p.version")
+    Optional<ProjectSummary> findSummaryById(@Param("id") Long id);
+
+    // Just the version (no entity load), for conditional GETs that end in 304
+    @Query("SELECT p.version FROM Project p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+}
@@ -0,0 +1,16 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Status;
+
+// One row of the task count GROUP BY (project, status, priority)
+public interface TaskCountRow {
+
+    Long getProjectId();
+
+    Status getStatus();
+
+    Priority getPriority();
+
+    long getTotal();
+}
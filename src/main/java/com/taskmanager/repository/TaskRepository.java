@@ -1,31 +1,73 @@
 package com.taskmanager.repository;
 
-import com.taskmanager.model.Priority;
-import com.taskmanager.model.Status;
 import com.taskmanager.model.Task;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
     // JpaRepository provides all basic CRUD methods automatically
-    // We can add custom queries later if needed
-    Page<Task> findAll(Pageable pageable);
+    // Filtered listings go through JpaSpecificationExecutor + TaskSpecifications,
+    // so every status/priority/project combination is one query shape
+
+    // Task and its project in one SELECT (Task.project is lazy)
+    @Override
+    @EntityGraph(attributePaths = "project")
+    Page<Task> findAll(Specification<Task> spec, Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "project")
+    Optional<Task> findById(Long id);
+
+    // Second step of a search page: the matched ids, with their projects
+    @EntityGraph(attributePaths = "project")
+    List<Task> findByIdIn(Collection<Long> ids);
 
-    Page<Task> findByStatus(Status status, Pageable pageable);
+    // Just the version (primary-key lookup), for conditional GETs that end in 304
+    @Query("SELECT t.version FROM Task t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 
-    Page<Task> findByPriority(Priority priority, Pageable pageable);
+    // Just the ETag inputs (no entity load), for conditional GETs that end in 304
+    @Query("SELECT t.version AS version, p.version AS projectVersion FROM Task t LEFT JOIN t.project p WHERE t.id = :id")
+    Optional<TaskTagRow> findTagById(@Param("id") Long id);
 
-    Page<Task> findByStatusAndPriority(Status status, Priority priority, Pageable pageable);
+    @Query("SELECT t.version AS version, t.project.id AS projectId, t.status AS status, t.priority AS priority " +
+            "FROM Task t WHERE t.id = :id")
+    Optional<TaskStateRow> findStateById(@Param("id") Long id);
 
-    Page<Task> findByProjectId(Long projectId, Pageable pageable);
+    // Used to (re)build the in-memory task counters
+    @Query("SELECT t.project.id AS projectId, t.status AS status, t.priority AS priority, COUNT(t) AS total " +
+            "FROM Task t GROUP BY t.project.id, t.status, t.priority")
+    List<TaskCountRow> countByProjectStatusPriority();
 
-    Page<Task> findByStatusAndPriorityAndProjectId(Status status, Priority priority, Long projectId, Pageable pageable);
+    @Query("SELECT t.project.id AS projectId, t.status AS status, t.priority AS priority, COUNT(t) AS total " +
+            "FROM Task t WHERE t.project.id = :projectId GROUP BY t.project.id, t.status, t.priority")
+    List<TaskCountRow> countByStatusPriorityForProject(@Param("projectId") Long projectId);
 
-    Page<Task> findByStatusAndProjectId(Status status, Long projectId, Pageable pageable);
+    @Query("SELECT t.project.id AS projectId, t.status AS status, t.priority AS priority, COUNT(t) AS total " +
+            "FROM Task t WHERE t.project.id IS NULL GROUP BY t.project.id, t.status, t.priority")
+    List<TaskCountRow> countByStatusPriorityUnassigned();
 
-    Page<Task> findByPriorityAndProjectId(Priority priority, Long projectId, Pageable pageable);
+    // Set-based chunked deletes: one statement removes up to `limit` rows without
+    // loading them, so each chunk's locks and WAL stay bounded
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE id IN (SELECT id FROM tasks LIMIT :limit)", nativeQuery = true)
+    int deleteChunk(@Param("limit") int limit);
 
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE id IN (SELECT id FROM tasks WHERE project_id = :projectId LIMIT :limit)",
+            nativeQuery = true)
+    int deleteChunkByProjectId(@Param("projectId") Long projectId, @Param("limit") int limit);
 }
\ No newline at end of file
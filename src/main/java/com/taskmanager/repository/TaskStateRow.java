@@ -0,0 +1,16 @@
+package com.taskmanager.repository;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Status;
+
+// The columns a partial update needs to know beforehand, read without loading the task
+public interface TaskStateRow {
+
+    Long getVersion();
+
+    Long getProjectId();
+
+    Status getStatus();
+
+    Priority getPriority();
+}
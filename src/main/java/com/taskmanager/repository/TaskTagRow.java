@@ -0,0 +1,10 @@
+package com.taskmanager.repository;
+
+// What a task's ETag is built from: its version, and its project's version for the embedded
+// project name (null when the task has no project)
+public interface TaskTagRow {
+
+    Long getVersion();
+
+    Long getProjectVersion();
+}
@@ -4,6 +4,8 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,6 +19,8 @@ import java.util.ArrayList;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
+
     @Autowired
     private JwtUtil jwtUtil;
 
@@ -28,34 +32,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // Get Authorization header
         String authHeader = request.getHeader("Authorization");
 
-        String token = null;
-        String username = null;
+        VerifiedToken verifiedToken = null;
 
-        // Extract token from "Bearer <token>"
+        // Extract token from "Bearer <token>" and verify it once (signature + expiry)
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7); // Remove "Bearer " prefix
+            String token = authHeader.substring(7); // Remove "Bearer " prefix
             try {
-                username = jwtUtil.extractUsername(token);
+                verifiedToken = jwtUtil.verify(token);
             } catch (Exception e) {
-                System.out.println("Invalid token");
+                // Counted in jwt.verification{result=rejected}; the request continues unauthenticated
+                log.debug("Rejected bearer token: {}", e.getMessage());
             }
         }
 
         // If token is valid and user is not already authenticated
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-
-            // Validate token
-            if (jwtUtil.validateToken(token, username)) {
+        if (verifiedToken != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-                // Create authentication object
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(username, null, new ArrayList<>());
+            // Create authentication object
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(verifiedToken.getUsername(), null, new ArrayList<>());
 
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                // Set authentication in Spring Security context
-                SecurityContextHolder.getContext().setAuthentication(authToken);
-            }
+            // Set authentication in Spring Security context
+            SecurityContextHolder.getContext().setAuthentication(authToken);
         }
 
         // Continue with the request
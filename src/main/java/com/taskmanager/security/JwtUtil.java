@@ -1,15 +1,32 @@
 package com.taskmanager.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
@@ -20,6 +37,47 @@ public class JwtUtil {
     // Token valid for 10 hours
     private final long EXPIRATION_TIME = 1000 * 60 * 60 * 10;
 
+    // Max number of verified tokens remembered (one per active session is plenty)
+    private static final long VERIFIED_TOKEN_CACHE_SIZE = 10_000;
+
+    // Built once - JwtParser is immutable and thread-safe
+    private final JwtParser parser = Jwts.parserBuilder()
+            .setSigningKey(SECRET_KEY)
+            .build();
+
+    // Tokens that already passed signature verification, keyed by SHA-256 digest of the
+    // token (so raw bearer tokens aren't kept in memory). Entries expire with the token.
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKEN_CACHE_SIZE)
+            .expireAfter(Expiry.creating((String digest, VerifiedToken token) ->
+                    Duration.between(Instant.now(), token.getExpiresAt())))
+            .recordStats()
+            .build();
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // jwt.verification timings, tagged result=cached|verified|rejected
+    private Timer cachedTimer;
+    private Timer verifiedTimer;
+    private Timer rejectedTimer;
+
+    // Exposes hit/miss/eviction counts as cache.* metrics tagged cache=jwt.verified-tokens
+    @PostConstruct
+    void registerMetrics() {
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified-tokens");
+        cachedTimer = verificationTimer("cached");
+        verifiedTimer = verificationTimer("verified");
+        rejectedTimer = verificationTimer("rejected");
+    }
+
+    private Timer verificationTimer(String result) {
+        return Timer.builder("jwt.verification")
+                .description("Time to verify a bearer token")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
     // Generate token for a user
     public String generateToken(String username) {
         Map<String, Object> claims = new HashMap<>();
@@ -37,33 +95,61 @@ public class JwtUtil {
                 .compact();
     }
 
+    // Verify a token once: signature, expiry and claims. Repeat calls for the same
+    // token are answered from the cache without parsing or HMAC verification.
+    // Throws JwtException (or IllegalArgumentException for blank input) if the token is invalid.
+    public VerifiedToken verify(String token) {
+        long start = System.nanoTime();
+        String digest = digest(token);
+
+        VerifiedToken cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && !cached.isExpired()) {
+            cachedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getSubject() == null || claims.getExpiration() == null) {
+                throw new JwtException("Token is missing subject or expiration");
+            }
+
+            VerifiedToken verified = new VerifiedToken(
+                    claims.getSubject(),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                    claims.getExpiration().toInstant());
+            verifiedTokens.put(digest, verified);
+            verifiedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return verified;
+        } catch (RuntimeException e) {
+            rejectedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
     // Extract username from token
     public String extractUsername(String token) {
-        return extractAllClaims(token).getSubject();
+        return verify(token).getUsername();
     }
 
     // Extract expiration date from token
     public Date extractExpiration(String token) {
-        return extractAllClaims(token).getExpiration();
-    }
-
-    // Extract all information from token
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(SECRET_KEY)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    // Check if token is expired
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return Date.from(verify(token).getExpiresAt());
     }
 
     // Validate token
     public Boolean validateToken(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername.equals(username) && !isTokenExpired(token));
+        VerifiedToken verified = verify(token);
+        return verified.getUsername().equals(username) && !verified.isExpired();
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // Every JRE is required to ship SHA-256
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
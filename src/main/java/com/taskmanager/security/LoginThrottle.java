@@ -0,0 +1,76 @@
+package com.taskmanager.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.exception.TooManyRequestsException;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Counts failed logins per client IP, and per username from each IP, over a fixed window.
+// Once either limit is reached further attempts are refused with 429 before any password
+// hashing happens, so repeated bad attempts cost almost nothing. Username counters are
+// kept per IP so that nobody can lock a known user out by failing logins in their name;
+// guessing one account from many addresses is bounded by the per-IP limit of each.
+@Component
+public class LoginThrottle {
+
+    @Value("${auth.throttle.max-failures-per-username-and-ip:5}")
+    private int maxFailuresPerUsernameAndIp;
+
+    @Value("${auth.throttle.max-failures-per-ip:20}")
+    private int maxFailuresPerIp;
+
+    @Value("${auth.throttle.window-seconds:900}")
+    private long windowSeconds;
+
+    // Bounded so a flood of random usernames/IPs can't grow memory without limit
+    private Cache<String, AtomicInteger> failuresByUsernameAndIp;
+    private Cache<String, AtomicInteger> failuresByIp;
+
+    @PostConstruct
+    void init() {
+        failuresByUsernameAndIp = newCounterCache();
+        failuresByIp = newCounterCache();
+    }
+
+    public void checkAllowed(String username, String clientIp) {
+        if (count(failuresByIp, clientIp) >= maxFailuresPerIp
+                || count(failuresByUsernameAndIp, key(username, clientIp)) >= maxFailuresPerUsernameAndIp) {
+            throw new TooManyRequestsException("Too many failed login attempts, please try again later", windowSeconds);
+        }
+    }
+
+    public void recordFailure(String username, String clientIp) {
+        increment(failuresByUsernameAndIp, key(username, clientIp));
+        increment(failuresByIp, clientIp);
+    }
+
+    public void recordSuccess(String username, String clientIp) {
+        failuresByUsernameAndIp.invalidate(key(username, clientIp));
+    }
+
+    // NUL can't appear in an IP address, so distinct pairs never share a key
+    private static String key(String username, String clientIp) {
+        return clientIp + '\0' + username;
+    }
+
+    private Cache<String, AtomicInteger> newCounterCache() {
+        return Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofSeconds(windowSeconds))
+                .build();
+    }
+
+    private static int count(Cache<String, AtomicInteger> cache, String key) {
+        AtomicInteger counter = cache.getIfPresent(key);
+        return counter != null ? counter.get() : 0;
+    }
+
+    private static void increment(Cache<String, AtomicInteger> cache, String key) {
+        cache.get(key, k -> new AtomicInteger()).incrementAndGet();
+    }
+}
@@ -0,0 +1,154 @@
+package com.taskmanager.security;
+
+import com.taskmanager.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Runs BCrypt on a small dedicated pool instead of on request threads, so a login
+// burst can only ever burn `threads` cores. When the pool and its queue are full
+// the caller gets a ServiceBusyException (503) immediately instead of waiting.
+@Component
+public class PasswordHashingPool {
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // 0 = one thread per available core
+    @Value("${auth.hashing.threads:0}")
+    private int threads;
+
+    @Value("${auth.hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${auth.hashing.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private ThreadPoolExecutor executor;
+
+    // auth.password.hashing: BCrypt time on the pool thread (excludes queueing), per operation
+    private Timer encodeTimer;
+    private Timer matchTimer;
+
+    // Moving average of how long a password check takes, used to make
+    // "unknown user" answers take as long as "wrong password" answers
+    private final AtomicLong averageMatchNanos = new AtomicLong();
+
+    @PostConstruct
+    void start() {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        encodeTimer = hashingTimer("encode");
+        matchTimer = hashingTimer("matches");
+        // Saturation: queued hashes waiting for a thread, and threads busy hashing
+        Gauge.builder("auth.password.hashing.queued", executor, pool -> pool.getQueue().size())
+                .description("Password hashes waiting for a pool thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Pool threads currently hashing")
+                .register(meterRegistry);
+
+        // Seed the average with one real check so the first unknown-user login isn't instant
+        long start = System.nanoTime();
+        passwordEncoder.matches("calibration", passwordEncoder.encode("calibration"));
+        averageMatchNanos.set((System.nanoTime() - start) / 2);
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    public String encode(String rawPassword) {
+        return submit(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return submit(() -> {
+            // Timed on the pool thread, so time spent queued doesn't inflate the average
+            long start = System.nanoTime();
+            boolean matches = matchTimer.recordCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+            recordMatchTime(System.nanoTime() - start);
+            return matches;
+        });
+    }
+
+    // Hold a pool thread roughly as long as a real password check would, without using any
+    // CPU. Used when the username doesn't exist, so neither response times nor 503s under load
+    // reveal that: the request is queued, refused or timed out exactly like a real check.
+    public void simulateMatch() {
+        submit(() -> {
+            TimeUnit.NANOSECONDS.sleep(averageMatchNanos.get());
+            return null;
+        });
+    }
+
+    private Timer hashingTimer(String operation) {
+        return Timer.builder("auth.password.hashing")
+                .description("BCrypt time per password operation, excluding time queued")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
+    private <T> T submit(Callable<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceBusyException("Too many authentication requests, please retry shortly", 1);
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceBusyException("Authentication timed out, please retry shortly", 1);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("Authentication was interrupted", 1);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    // Exponential moving average with weight 1/8 for the newest sample
+    private void recordMatchTime(long nanos) {
+        averageMatchNanos.updateAndGet(average -> average + (nanos - average) / 8);
+    }
+}
@@ -0,0 +1,33 @@
+package com.taskmanager.security;
+
+import java.time.Instant;
+
+// Immutable result of verifying a JWT once: signature checked, claims extracted
+public final class VerifiedToken {
+
+    private final String username;
+    private final Instant issuedAt;
+    private final Instant expiresAt;
+
+    public VerifiedToken(String username, Instant issuedAt, Instant expiresAt) {
+        this.username = username;
+        this.issuedAt = issuedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public Instant getIssuedAt() {
+        return issuedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public boolean isExpired() {
+        return !Instant.now().isBefore(expiresAt);
+    }
+}
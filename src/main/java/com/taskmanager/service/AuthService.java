@@ -2,21 +2,30 @@ package com.taskmanager.service;
 
 import com.taskmanager.model.User;
 import com.taskmanager.repository.UserRepository;
+import com.taskmanager.security.LoginThrottle;
+import com.taskmanager.security.PasswordHashingPool;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+
 @Service
 public class AuthService {
 
     @Autowired
     private UserRepository userRepository;
 
+    // BCrypt runs on this bounded pool, never on the request thread
+    @Autowired
+    private PasswordHashingPool passwordHashingPool;
+
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private LoginThrottle loginThrottle;
 
     // Register new user
     public User registerUser(String username, String password) {
+        requireCredentials(username, password);
+
         // Check if username already exists
         if (userRepository.existsByUsername(username)) {
             throw new RuntimeException("Username already exists");
@@ -25,21 +34,39 @@ public class AuthService {
         // Create new user with encrypted password
         User user = new User();
         user.setUsername(username);
-        user.setPassword(passwordEncoder.encode(password)); // Encrypt password
+        user.setPassword(passwordHashingPool.encode(password)); // Encrypt password
 
         return userRepository.save(user);
     }
 
     // Authenticate user (check if username and password are correct)
-    public User authenticateUser(String username, String password) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("Invalid username or password"));
+    public User authenticateUser(String username, String password, String clientIp) {
+        requireCredentials(username, password);
+
+        // Refuse early (no hashing) if this IP, or this user from this IP, has failed too often
+        loginThrottle.checkAllowed(username, clientIp);
+
+        Optional<User> user = userRepository.findByUsername(username);
+        if (user.isEmpty()) {
+            // No hash to check against - just take as long as a real check would
+            passwordHashingPool.simulateMatch();
+            loginThrottle.recordFailure(username, clientIp);
+            throw new RuntimeException("Invalid username or password");
+        }
 
         // Check if password matches
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordHashingPool.matches(password, user.get().getPassword())) {
+            loginThrottle.recordFailure(username, clientIp);
             throw new RuntimeException("Invalid username or password");
         }
 
-        return user;
+        loginThrottle.recordSuccess(username, clientIp);
+        return user.get();
+    }
+
+    private void requireCredentials(String username, String password) {
+        if (username == null || password == null) {
+            throw new RuntimeException("Username and password are required");
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.taskmanager.service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Progress of one bulk delete. Updated by the worker thread, read by GET /api/jobs/{id}.
+public class BulkDeleteJob {
+
+    public enum State {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final String scope;      // "ALL_TASKS" or "PROJECT"
+    private final Long projectId;    // set when scope is PROJECT
+    private final long estimatedTotal;
+    private final AtomicLong deleted = new AtomicLong();
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile State state = State.PENDING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String error;
+
+    public BulkDeleteJob(String scope, Long projectId, long estimatedTotal) {
+        this.scope = scope;
+        this.projectId = projectId;
+        this.estimatedTotal = estimatedTotal;
+    }
+
+    void start() {
+        state = State.RUNNING;
+    }
+
+    void addDeleted(long count) {
+        deleted.addAndGet(count);
+    }
+
+    void complete() {
+        finishedAt = LocalDateTime.now();
+        state = State.COMPLETED;
+    }
+
+    void fail(String message) {
+        error = message;
+        finishedAt = LocalDateTime.now();
+        state = State.FAILED;
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public long getEstimatedTotal() {
+        return estimatedTotal;
+    }
+
+    public long getDeleted() {
+        return deleted.get();
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isDone() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+}
@@ -0,0 +1,172 @@
+package com.taskmanager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.taskmanager.event.ProjectChangedEvent;
+import com.taskmanager.event.TasksBulkChangedEvent;
+import com.taskmanager.exception.ServiceBusyException;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+// Deletes tasks with set-based DELETE statements of at most `chunk-size` rows, each in
+// its own transaction, so no entities are loaded and locks/WAL stay bounded per chunk.
+// Deletes estimated above `async-threshold` rows run on a single background worker and
+// the caller gets a job to poll via GET /api/jobs/{id}.
+@Service
+public class BulkDeleteService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkDeleteService.class);
+
+    private static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+    // Caffeine's longest expiry: effectively never
+    private static final Duration UNFINISHED_JOB_RETENTION = Duration.ofNanos(Long.MAX_VALUE);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${app.bulk-delete.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.bulk-delete.async-threshold:50000}")
+    private long asyncThreshold;
+
+    @Value("${app.bulk-delete.queue-capacity:16}")
+    private int queueCapacity;
+
+    private TransactionTemplate transactionTemplate;
+    private ThreadPoolExecutor executor;
+
+    // Jobs stay visible while they are queued or running, however long that takes, and for
+    // an hour after they finish (the job is written again then, which restarts the clock)
+    private final Cache<String, BulkDeleteJob> jobs = Caffeine.newBuilder()
+            .expireAfter(Expiry.writing((String id, BulkDeleteJob job) ->
+                    job.isDone() ? FINISHED_JOB_RETENTION : UNFINISHED_JOB_RETENTION))
+            .build();
+
+    @PostConstruct
+    void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // One worker: concurrent bulk deletes would only contend on the same rows
+        executor = new ThreadPoolExecutor(
+                1, 1,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "bulk-delete");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    // Returns the job when the delete was moved to the background, empty when it already finished
+    public Optional<BulkDeleteJob> deleteAllTasks() {
+        BulkDeleteJob job = new BulkDeleteJob("ALL_TASKS", null, taskCounters.totalAll());
+        return run(job, () -> deleteChunks(() -> taskRepository.deleteChunk(chunkSize), job),
+                TasksBulkChangedEvent.allProjects());
+    }
+
+    // Caller has already checked that the project exists
+    public Optional<BulkDeleteJob> deleteProject(Long projectId) {
+        BulkDeleteJob job = new BulkDeleteJob("PROJECT", projectId,
+                taskCounters.countsForProject(projectId).getTotal());
+        return run(job, () -> {
+            deleteChunks(() -> taskRepository.deleteChunkByProjectId(projectId, chunkSize), job);
+
+            // Tasks created while the chunks ran go in the same transaction as the project row
+            transactionTemplate.executeWithoutResult(status -> {
+                job.addDeleted(taskRepository.deleteChunkByProjectId(projectId, Integer.MAX_VALUE));
+                projectRepository.deleteAllByIdInBatch(List.of(projectId));
+            });
+            eventPublisher.publishEvent(ProjectChangedEvent.deleted(projectId));
+        }, TasksBulkChangedEvent.forProject(projectId));
+    }
+
+    public Optional<BulkDeleteJob> getJob(String id) {
+        return Optional.ofNullable(jobs.getIfPresent(id));
+    }
+
+    private Optional<BulkDeleteJob> run(BulkDeleteJob job, Runnable work, TasksBulkChangedEvent event) {
+        if (job.getEstimatedTotal() <= asyncThreshold) {
+            // Small enough to finish within the request; failures propagate to the caller
+            job.start();
+            try {
+                work.run();
+                job.complete();
+            } finally {
+                eventPublisher.publishEvent(event);
+            }
+            return Optional.empty();
+        }
+
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> execute(job, work, event));
+        } catch (RejectedExecutionException e) {
+            jobs.invalidate(job.getId());
+            throw new ServiceBusyException("Too many bulk deletes in progress, please retry later", 30);
+        }
+        return Optional.of(job);
+    }
+
+    private void execute(BulkDeleteJob job, Runnable work, TasksBulkChangedEvent event) {
+        job.start();
+        try {
+            work.run();
+            job.complete();
+        } catch (RuntimeException e) {
+            log.error("Bulk delete {} failed after {} rows", job.getId(), job.getDeleted(), e);
+            job.fail(e.getMessage());
+        } finally {
+            jobs.put(job.getId(), job);
+            // Committed chunks are gone even if a later one failed, so always re-read the counts
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private void deleteChunks(IntSupplier chunkDelete, BulkDeleteJob job) {
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> chunkDelete.getAsInt());
+            job.addDeleted(deleted);
+        } while (deleted >= chunkSize);
+    }
+}
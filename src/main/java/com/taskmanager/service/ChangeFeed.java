@@ -0,0 +1,371 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.ChangeNotification;
+import com.taskmanager.dto.ChangeNotification.Entity;
+import com.taskmanager.dto.ChangeNotification.Type;
+import com.taskmanager.event.ProjectChangedEvent;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TasksBulkChangedEvent;
+import com.taskmanager.exception.ServiceBusyException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+// Pushes task/project changes to Server-Sent Events subscribers (GET /api/tasks/stream).
+// Changes are collected per transaction and published once it commits; a transaction with
+// more than `coalesce-threshold` task changes (batch endpoints) becomes one BULK_CHANGED.
+// Fan-out never blocks the writer: each subscriber has a bounded buffer drained by a small
+// sender pool, and a subscriber whose buffer overflows is disconnected (clients reconnect
+// and re-read). On PostgreSQL changes go through LISTEN/NOTIFY so every node sees them.
+@Component
+public class ChangeFeed {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeed.class);
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    // One serialized notification, shared by every subscriber it goes to; null name = heartbeat
+    private record Outgoing(String name, String json) {
+    }
+
+    private static final Outgoing HEARTBEAT = new Outgoing(null, null);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.feed.buffer-size:256}")
+    private int bufferSize;
+
+    @Value("${app.feed.max-subscribers:1000}")
+    private int maxSubscribers;
+
+    @Value("${app.feed.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${app.feed.heartbeat-seconds:15}")
+    private long heartbeatSeconds;
+
+    @Value("${app.feed.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @Value("${app.feed.coalesce-threshold:100}")
+    private int coalesceThreshold;
+
+    @Value("${app.feed.cluster.enabled:true}")
+    private boolean clusterEnabled;
+
+    @Value("${app.feed.cluster.channel:task_changes}")
+    private String channel;
+
+    @Value("${spring.datasource.url}")
+    private String datasourceUrl;
+
+    @Value("${spring.datasource.username:}")
+    private String datasourceUsername;
+
+    @Value("${spring.datasource.password:}")
+    private String datasourcePassword;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService sender;
+    private ScheduledExecutorService heartbeat;
+    private PostgresChangeRelay relay;  // null = single node, deliver locally
+
+    @PostConstruct
+    void start() {
+        AtomicInteger senderCount = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "change-feed-send-" + senderCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "change-feed-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleAtFixedRate(() -> subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT)),
+                heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+
+        if (clusterEnabled && datasourceUrl.startsWith("jdbc:postgresql:")) {
+            if (!CHANNEL_NAME.matcher(channel).matches()) {
+                throw new IllegalStateException("app.feed.cluster.channel must be a lower-case identifier: " + channel);
+            }
+            // Missed payloads while reconnecting: tell everyone to re-read
+            relay = new PostgresChangeRelay(datasourceUrl, datasourceUsername, datasourcePassword, channel,
+                    10_000, this::receive, () -> deliver(ChangeNotification.bulk(null)));
+            relay.start();
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        if (relay != null) {
+            relay.stop();
+        }
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+    }
+
+    // A null projectId subscribes to every change
+    public SseEmitter subscribe(Long projectId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new ServiceBusyException("Too many change feed subscribers, please retry later", 30);
+        }
+
+        SseEmitter emitter = new SseEmitter(Duration.ofMinutes(timeoutMinutes).toMillis());
+        Subscriber subscriber = new Subscriber(emitter, projectId);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscribers.add(subscriber);
+
+        try {
+            // Sent once the response starts; sets the client's reconnect delay
+            emitter.send(SseEmitter.event().comment("connected").reconnectTime(3000));
+        } catch (IOException e) {
+            subscriber.close();
+        }
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @EventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        Set<Long> projectIds = null;  // content-only update: project not known
+        if (event.getBefore() != null || event.getAfter() != null) {
+            projectIds = new HashSet<>();
+            if (event.getBefore() != null) {
+                projectIds.add(event.getBefore().getProjectId());
+            }
+            if (event.getAfter() != null) {
+                projectIds.add(event.getAfter().getProjectId());
+            }
+        }
+        Type type = switch (event.getType()) {
+            case CREATED -> Type.CREATED;
+            case UPDATED -> Type.UPDATED;
+            case DELETED -> Type.DELETED;
+        };
+        collect(new ChangeNotification(Entity.TASK, type, event.getTaskId(), projectIds));
+    }
+
+    @EventListener
+    public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+        collect(ChangeNotification.bulk(event.isAllProjects() ? null : new HashSet<>(event.getProjectIds())));
+    }
+
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Type type = switch (event.getType()) {
+            case CREATED -> Type.CREATED;
+            case UPDATED -> Type.UPDATED;
+            case DELETED -> Type.DELETED;
+        };
+        Set<Long> projectIds = new HashSet<>();
+        projectIds.add(event.getProjectId());
+        collect(new ChangeNotification(Entity.PROJECT, type, event.getProjectId(), projectIds));
+    }
+
+    // Inside a transaction, hold the change until it commits (dropped on rollback)
+    private void collect(ChangeNotification notification) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(notification));
+            return;
+        }
+        PendingChanges pending = null;
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingChanges existing) {
+                pending = existing;
+                break;
+            }
+        }
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.add(notification);
+    }
+
+    private final class PendingChanges implements TransactionSynchronization {
+        private final List<ChangeNotification> changes = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            publish(coalesce(changes));
+        }
+    }
+
+    // Past the threshold, the task changes of one transaction become a single BULK_CHANGED
+    private List<ChangeNotification> coalesce(List<ChangeNotification> changes) {
+        if (changes.size() <= coalesceThreshold) {
+            return changes;
+        }
+        List<ChangeNotification> result = new ArrayList<>();
+        Set<Long> projectIds = new HashSet<>();
+        boolean allProjects = false;
+        for (ChangeNotification change : changes) {
+            if (change.getEntity() != Entity.TASK) {
+                result.add(change);
+            } else if (change.getProjectIds() == null) {
+                allProjects = true;
+            } else {
+                projectIds.addAll(change.getProjectIds());
+            }
+        }
+        result.add(ChangeNotification.bulk(allProjects ? null : projectIds));
+        return result;
+    }
+
+    private void publish(List<ChangeNotification> notifications) {
+        for (ChangeNotification notification : notifications) {
+            if (relay == null) {
+                deliver(notification);
+                continue;
+            }
+            String json = toJson(notification);
+            if (json.length() > PostgresChangeRelay.MAX_PAYLOAD_LENGTH) {
+                // Too many project ids for one NOTIFY: widen to every project
+                json = toJson(ChangeNotification.bulk(null));
+            }
+            if (!relay.send(json)) {
+                log.warn("Change feed outbox full, delivering {} {} on this node only",
+                        notification.getEntity(), notification.getType());
+                deliver(notification);
+            }
+        }
+    }
+
+    // Payload from the LISTEN connection - this node's changes as well as other nodes'
+    private void receive(String json) {
+        try {
+            deliver(objectMapper.readValue(json, ChangeNotification.class), json);
+        } catch (JacksonException e) {
+            log.warn("Ignoring malformed change feed payload: {}", json);
+        }
+    }
+
+    private void deliver(ChangeNotification notification) {
+        deliver(notification, toJson(notification));
+    }
+
+    private void deliver(ChangeNotification notification, String json) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        Outgoing outgoing = new Outgoing(notification.getEntity().name().toLowerCase(), json);
+        for (Subscriber subscriber : subscribers) {
+            if (notification.concerns(subscriber.projectId)) {
+                subscriber.offer(outgoing);
+            }
+        }
+    }
+
+    private String toJson(ChangeNotification notification) {
+        return objectMapper.writeValueAsString(notification);
+    }
+
+    // At most one drain task per subscriber is queued or running at a time
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Long projectId;
+        private final BlockingQueue<Outgoing> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, Long projectId) {
+            this.emitter = emitter;
+            this.projectId = projectId;
+        }
+
+        void offer(Outgoing outgoing) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(outgoing)) {
+                log.debug("Dropping change feed subscriber (projectId={}): {} events behind", projectId, bufferSize);
+                close();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    sender.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Outgoing outgoing;
+                while (!closed && (outgoing = buffer.poll()) != null) {
+                    if (outgoing == HEARTBEAT) {
+                        emitter.send(SseEmitter.event().comment("heartbeat"));
+                    } else {
+                        emitter.send(SseEmitter.event().name(outgoing.name()).data(outgoing.json()));
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client went away (or the emitter already completed)
+                close();
+            } finally {
+                scheduled.set(false);
+            }
+            if (!closed && !buffer.isEmpty()) {
+                schedule();
+            }
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // Already completed
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskmanager.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+// Minimal streaming RFC 4180 reader: comma separated, "quoted" fields with "" escapes
+// and embedded line breaks, LF or CRLF record ends. Reads one record at a time, of at most
+// maxRecordLength chars: a stray quote would otherwise pull the rest of the input into one field.
+class CsvRecordReader {
+
+    // The input can't be split into records from here on
+    static class MalformedCsvException extends IOException {
+        MalformedCsvException(String message) {
+            super(message);
+        }
+    }
+
+    private final Reader reader;
+    private final int maxRecordLength;
+    private int pending = -2;  // one char of look-ahead; -2 = none
+    private int recordLength;
+
+    CsvRecordReader(Reader reader, int maxRecordLength) {
+        this.reader = reader;
+        this.maxRecordLength = maxRecordLength;
+    }
+
+    // Next record's fields, or null at end of input
+    List<String> next() throws IOException {
+        recordLength = 0;
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new MalformedCsvException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    int after = read();
+                    if (after == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = after;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                break;
+            } else if (c == '\r') {
+                int after = read();
+                if (after != '\n') {
+                    pending = after;
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (pending != -2) {
+            int c = pending;
+            pending = -2;
+            return c;
+        }
+        if (++recordLength > maxRecordLength) {
+            throw new MalformedCsvException("Record is longer than " + maxRecordLength
+                    + " characters (unterminated quoted field?)");
+        }
+        return reader.read();
+    }
+}
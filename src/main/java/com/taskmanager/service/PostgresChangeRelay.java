@@ -0,0 +1,159 @@
+package com.taskmanager.service;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+// Shares change-feed payloads between nodes through PostgreSQL LISTEN/NOTIFY. Every node
+// NOTIFYs its own changes and LISTENs on the same channel, so each node (including the
+// sender) delivers every change exactly once, from the listener thread.
+// Both directions use their own long-lived connection, opened outside the pool so the
+// feed never holds a Hikari connection (or a virtual-thread DB permit).
+class PostgresChangeRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresChangeRelay.class);
+
+    // NOTIFY payloads must stay below 8000 bytes
+    static final int MAX_PAYLOAD_LENGTH = 7900;
+
+    private static final long WAIT_MS = 10_000;
+    private static final long MAX_BACKOFF_MS = 30_000;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final String channel;
+    private final Consumer<String> receiver;
+    private final Runnable onReconnect;
+    private final BlockingQueue<String> outbox;
+
+    private volatile boolean running;
+    private Thread listener;
+    private Thread notifier;
+
+    // receiver gets every payload on the channel; onReconnect runs when the listener had
+    // to reconnect and may have missed payloads in between
+    PostgresChangeRelay(String url, String username, String password, String channel, int outboxCapacity,
+                        Consumer<String> receiver, Runnable onReconnect) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.channel = channel;
+        this.receiver = receiver;
+        this.onReconnect = onReconnect;
+        this.outbox = new ArrayBlockingQueue<>(outboxCapacity);
+    }
+
+    void start() {
+        running = true;
+        listener = daemon(this::listen, "change-feed-listen");
+        notifier = daemon(this::notifyLoop, "change-feed-notify");
+        listener.start();
+        notifier.start();
+    }
+
+    void stop() {
+        running = false;
+        listener.interrupt();
+        notifier.interrupt();
+    }
+
+    // Never blocks the caller; false when the outbox is full and the payload wasn't queued
+    boolean send(String payload) {
+        return outbox.offer(payload);
+    }
+
+    private void listen() {
+        boolean connectedBefore = false;
+        long backoffMs = 1000;
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url, username, password)) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                if (connectedBefore) {
+                    onReconnect.run();
+                }
+                connectedBefore = true;
+                backoffMs = 1000;
+
+                PGConnection pg = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pg.getNotifications((int) WAIT_MS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            receiver.accept(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Change feed LISTEN connection lost, retrying in {}ms: {}", backoffMs, e.getMessage());
+                if (!sleep(backoffMs)) {
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    private void notifyLoop() {
+        long backoffMs = 1000;
+        while (running) {
+            String inFlight = null;
+            try (Connection connection = DriverManager.getConnection(url, username, password);
+                 PreparedStatement notify = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                backoffMs = 1000;
+                while (running) {
+                    inFlight = outbox.take();
+                    notify.setString(1, channel);
+                    notify.setString(2, inFlight);
+                    notify.execute();
+                    inFlight = null;
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                // Other nodes miss this one, but this node's subscribers still get it
+                if (inFlight != null) {
+                    receiver.accept(inFlight);
+                }
+                log.warn("Change feed NOTIFY connection lost, retrying in {}ms: {}", backoffMs, e.getMessage());
+                if (!sleep(backoffMs)) {
+                    return;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+            }
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            return false;
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,99 @@
+package com.taskmanager.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.event.TasksBulkChangedEvent;
+import com.taskmanager.exception.TaskNotFoundException;
+import com.taskmanager.model.Project;
+import com.taskmanager.repository.ProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+// Near cache of hot projects for the task write path, which only needs a project to
+// exist and to point the task's foreign key at it. A hit costs no SQL: the cached value
+// is a detached copy (id, version, name, description, timestamps) that was never
+// attached to any session, and Hibernate only reads its id when writing the FK. Copies
+// are read-only; they are evicted when the project is updated or deleted through this
+// instance and expire after `ttl-seconds` to bound staleness from other instances.
+@Component
+public class ProjectLookupCache {
+
+    private static final String CACHE_NAME = "projects.lookup";
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.project-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${app.project-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private Cache<Long, Project> projects;
+    private Counter invalidations;
+
+    // Hit/miss/size-or-TTL eviction counts come out as cache.* metrics tagged
+    // cache=projects.lookup; explicit evictions are counted in cache.invalidations
+    @PostConstruct
+    void init() {
+        projects = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, projects, CACHE_NAME);
+        invalidations = Counter.builder("cache.invalidations")
+                .tag("cache", CACHE_NAME)
+                .description("Entries removed because the project was updated or deleted")
+                .register(meterRegistry);
+    }
+
+    // The project to attach a task to; loads it (one SELECT) only on a miss
+    public Project getReference(Long projectId) {
+        Project project = projects.getIfPresent(projectId);
+        if (project != null) {
+            return project;
+        }
+
+        Project loaded = projectRepository.findById(projectId)
+                .orElseThrow(() -> new TaskNotFoundException("Project not found with id: " + projectId));
+        Project copy = detachedCopy(loaded);
+        projects.put(projectId, copy);
+        // Hand back the loaded instance: it's already managed in the caller's session
+        return loaded;
+    }
+
+    public void evict(Long projectId) {
+        if (projectId != null && projects.asMap().remove(projectId) != null) {
+            invalidations.increment();
+        }
+    }
+
+    // Project deletes finish through BulkDeleteService, possibly on a background job
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+        if (!event.isAllProjects()) {
+            event.getProjectIds().forEach(this::evict);
+        }
+    }
+
+    private static Project detachedCopy(Project project) {
+        Project copy = new Project(project.getName(), project.getDescription());
+        copy.setId(project.getId());
+        copy.setCreatedAt(project.getCreatedAt());
+        copy.setUpdatedAt(project.getUpdatedAt());
+        copy.setVersion(project.getVersion());
+        return copy;
+    }
+}
@@ -1,12 +1,21 @@
 package com.taskmanager.service;
 
+import com.taskmanager.dto.ProjectSummary;
+import com.taskmanager.dto.TaskCountsResponse;
+import com.taskmanager.event.ProjectChangedEvent;
+import com.taskmanager.exception.PreconditionFailedException;
 import com.taskmanager.exception.TaskNotFoundException;
 import com.taskmanager.model.Project;
 import com.taskmanager.repository.ProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Optional;
 
 @Service
 public class ProjectService {
@@ -14,35 +23,90 @@ public class ProjectService {
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    @Autowired
+    private ProjectLookupCache projectLookupCache;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Create
     public Project createProject(Project project) {
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        eventPublisher.publishEvent(ProjectChangedEvent.created(savedProject.getId()));
+        return savedProject;
     }
 
-    // Read All (with pagination)
-    public Page<Project> getAllProjects(Pageable pageable) {
-        return projectRepository.findAll(pageable);
+    // Read All (with pagination) - summaries only, task lists come from /api/tasks?projectId=
+    @Transactional(readOnly = true)
+    public Page<ProjectSummary> getAllProjects(Pageable pageable) {
+        return projectRepository.findAllSummaries(pageable);
     }
 
-    // Read One
+    // Read One (summary)
+    @Transactional(readOnly = true)
+    public ProjectSummary getProjectSummary(Long id) {
+        return projectRepository.findSummaryById(id)
+                .orElseThrow(() -> new TaskNotFoundException("Project not found with id: " + id));
+    }
+
+    // Read One (entity)
+    @Transactional(readOnly = true)
     public Project getProjectById(Long id) {
         return projectRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException("Project not found with id: " + id));
     }
 
-    // Update
-    public Project updateProject(Long id, Project projectDetails) {
+    // Task counts for one project, served from the in-memory counters
+    @Transactional(readOnly = true)
+    public TaskCountsResponse getTaskCounts(Long id) {
+        if (!projectRepository.existsById(id)) {
+            throw new TaskNotFoundException("Project not found with id: " + id);
+        }
+        return taskCounters.countsForProject(id);
+    }
+
+    // ETag inputs, for conditional GETs: the version from a primary-key lookup (no entity load),
+    // the task count from the in-memory counters (no COUNT over the project's tasks)
+    @Transactional(readOnly = true)
+    public Optional<Long> getProjectVersion(Long id) {
+        return projectRepository.findVersionById(id);
+    }
+
+    public long getTaskTotal(Long id) {
+        return taskCounters.countsForProject(id).getTotal();
+    }
+
+    // Update - expectedVersions comes from If-Match (null = unconditional).
+    // One read-write transaction, so the version check reads the primary, not a replica.
+    @Transactional
+    public Project updateProject(Long id, Project projectDetails, Collection<Long> expectedVersions) {
         Project project = getProjectById(id);
+        if (expectedVersions != null && !expectedVersions.contains(project.getVersion())) {
+            throw new PreconditionFailedException("Project with id " + id + " has been modified, reload it and retry");
+        }
 
         project.setName(projectDetails.getName());
         project.setDescription(projectDetails.getDescription());
 
-        return projectRepository.save(project);
+        Project savedProject = projectRepository.save(project);
+        projectLookupCache.evict(id);
+        eventPublisher.publishEvent(ProjectChangedEvent.updated(id));
+        return savedProject;
     }
 
-    // Delete
-    public void deleteProject(Long id) {
-        Project project = getProjectById(id);
-        projectRepository.delete(project);
+    // Delete the project and its tasks in set-based chunks (the tasks are never loaded);
+    // returns a job when it continues in the background
+    public Optional<BulkDeleteJob> deleteProject(Long id) {
+        if (!projectRepository.existsById(id)) {
+            throw new TaskNotFoundException("Project not found with id: " + id);
+        }
+        projectLookupCache.evict(id);
+        return bulkDeleteService.deleteProject(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,222 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.BatchItemResult;
+import com.taskmanager.dto.BatchItemResult.Outcome;
+import com.taskmanager.dto.BatchResponse;
+import com.taskmanager.dto.BatchUpdateTaskRequest;
+import com.taskmanager.dto.CreateTaskRequest;
+import com.taskmanager.dto.UpdateTaskRequest;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Create / update / delete thousands of tasks per request. Items are validated as a
+// group, referenced projects (and tasks) are loaded with one query each, and writes go
+// out as JDBC batches of hibernate.jdbc.batch_size. Valid items are written in one
+// transaction; invalid ones are reported and skipped. Results come back in request order.
+@Service
+public class TaskBatchService {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.batch.max-items:5000}")
+    private int maxItems;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int jdbcBatchSize;
+
+    @Transactional
+    public BatchResponse createTasks(List<CreateTaskRequest> requests) {
+        checkSize(requests);
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        Map<Long, Project> projects = loadProjects(requests.stream().filter(Objects::nonNull).map(CreateTaskRequest::getProjectId));
+
+        List<Task> toSave = new ArrayList<>();
+        List<Integer> savedIndexes = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            CreateTaskRequest request = requests.get(i);
+            List<String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results[i] = BatchItemResult.failure(i, null, Outcome.INVALID, errors);
+                continue;
+            }
+            if (request.getProjectId() != null && !projects.containsKey(request.getProjectId())) {
+                results[i] = BatchItemResult.failure(i, null, Outcome.NOT_FOUND,
+                        List.of("Project not found with id: " + request.getProjectId()));
+                continue;
+            }
+
+            Task task = new Task(request.getTitle(), request.getDescription(), request.getPriority(), request.getStatus());
+            task.setProject(request.getProjectId() != null ? projects.get(request.getProjectId()) : null);
+            toSave.add(task);
+            savedIndexes.add(i);
+        }
+
+        // Persist in chunks, flushing and clearing so the persistence context stays small
+        for (int from = 0; from < toSave.size(); from += jdbcBatchSize) {
+            List<Task> chunk = toSave.subList(from, Math.min(from + jdbcBatchSize, toSave.size()));
+            taskRepository.saveAll(chunk);
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        for (int i = 0; i < toSave.size(); i++) {
+            Task task = toSave.get(i);
+            results[savedIndexes.get(i)] = BatchItemResult.success(savedIndexes.get(i), task.getId(), Outcome.CREATED);
+            eventPublisher.publishEvent(TaskChangedEvent.created(task));
+        }
+
+        return new BatchResponse(List.of(results));
+    }
+
+    @Transactional
+    public BatchResponse updateTasks(List<BatchUpdateTaskRequest> requests) {
+        checkSize(requests);
+
+        BatchItemResult[] results = new BatchItemResult[requests.size()];
+        Map<Long, Project> projects = loadProjects(requests.stream().filter(Objects::nonNull).map(UpdateTaskRequest::getProjectId));
+        Map<Long, Task> tasks = taskRepository.findAllById(distinctIds(requests.stream().filter(Objects::nonNull).map(BatchUpdateTaskRequest::getId)))
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        List<TaskChangedEvent> events = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            BatchUpdateTaskRequest request = requests.get(i);
+            List<String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results[i] = BatchItemResult.failure(i, request != null ? request.getId() : null, Outcome.INVALID, errors);
+                continue;
+            }
+
+            Task task = tasks.get(request.getId());
+            if (task == null) {
+                results[i] = BatchItemResult.failure(i, request.getId(), Outcome.NOT_FOUND,
+                        List.of("Task with ID " + request.getId() + " not found"));
+                continue;
+            }
+            if (request.getProjectId() != null && !projects.containsKey(request.getProjectId())) {
+                results[i] = BatchItemResult.failure(i, request.getId(), Outcome.NOT_FOUND,
+                        List.of("Project not found with id: " + request.getProjectId()));
+                continue;
+            }
+
+            TaskChangedEvent.Snapshot before = TaskChangedEvent.Snapshot.of(task);
+            task.setTitle(request.getTitle());
+            task.setDescription(request.getDescription());
+            task.setStatus(request.getStatus());
+            task.setPriority(request.getPriority());
+            task.setProject(request.getProjectId() != null ? projects.get(request.getProjectId()) : null);
+
+            results[i] = BatchItemResult.success(i, task.getId(), Outcome.UPDATED);
+            events.add(TaskChangedEvent.updated(before, task));
+        }
+
+        // Dirty checking turns the changes into batched UPDATEs (hibernate.order_updates groups them)
+        entityManager.flush();
+        events.forEach(eventPublisher::publishEvent);
+
+        return new BatchResponse(List.of(results));
+    }
+
+    @Transactional
+    public BatchResponse deleteTasks(List<Long> ids) {
+        checkSize(ids);
+
+        Map<Long, Task> tasks = taskRepository.findAllById(distinctIds(ids.stream()))
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        // One set-based DELETE ... WHERE id IN (...) instead of a DELETE per row
+        taskRepository.deleteAllByIdInBatch(tasks.keySet());
+
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+        Set<Long> reported = new HashSet<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            if (id != null && tasks.containsKey(id) && reported.add(id)) {
+                results.add(BatchItemResult.success(i, id, Outcome.DELETED));
+                eventPublisher.publishEvent(TaskChangedEvent.deleted(tasks.get(id)));
+            } else {
+                results.add(BatchItemResult.failure(i, id, Outcome.NOT_FOUND,
+                        List.of("Task with ID " + id + " not found")));
+            }
+        }
+
+        return new BatchResponse(results);
+    }
+
+    private void checkSize(Collection<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BadRequestException("Batch must contain at least one item");
+        }
+        if (items.size() > maxItems) {
+            throw new BadRequestException("Batch cannot contain more than " + maxItems + " items");
+        }
+    }
+
+    private List<String> validate(Object request) {
+        if (request == null) {
+            return List.of("Item cannot be null");
+        }
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<Object> violation : validator.validate(request)) {
+            errors.add(violation.getMessage());
+        }
+        return errors;
+    }
+
+    // All referenced projects in one SELECT ... WHERE id IN (...)
+    private Map<Long, Project> loadProjects(Stream<Long> projectIds) {
+        Set<Long> ids = distinctIds(projectIds);
+        if (ids.isEmpty()) {
+            return new HashMap<>();
+        }
+        return projectRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+    }
+
+    private static Set<Long> distinctIds(Stream<Long> ids) {
+        return ids.filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+}
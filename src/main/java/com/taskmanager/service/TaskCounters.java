@@ -0,0 +1,256 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.TaskCountsResponse;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TasksBulkChangedEvent;
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Status;
+import com.taskmanager.repository.TaskCountRow;
+import com.taskmanager.repository.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// Task counts per (project, status, priority), kept in memory so dashboards can
+// read them without a COUNT over the tasks table. Built from one GROUP BY at
+// startup, then adjusted from TaskChangedEvents as the write commits.
+// Counts reflect writes made through this instance; bulk changes re-read the
+// affected projects from the database.
+@Component
+public class TaskCounters {
+
+    private record Key(Long projectId, Status status, Priority priority) {
+    }
+
+    private final Map<Key, LongAdder> counts = new ConcurrentHashMap<>();
+
+    // A writing transaction holds the read lock from just before it commits until its
+    // increments are applied. A rebuild takes the write lock only twice, briefly: to pin its
+    // snapshot, and to swap the result in. With the write lock held no commit is half-applied,
+    // so the snapshot includes exactly the commits whose changes were already applied, and
+    // every later change is recorded (see recordings) and replayed on top of it at the swap.
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    // Changes applied while a rebuild's GROUP BY runs, one queue per rebuild in progress
+    private final List<Queue<TaskChangedEvent>> recordings = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate rebuildTransaction;
+
+    @PostConstruct
+    void init() {
+        // Read-write so rebuilds always read the primary, never a lagging replica
+        rebuildTransaction = new TransactionTemplate(transactionManager);
+        rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        rebuild(projectId -> true, taskRepository::countByProjectStatusPriority);
+    }
+
+    // A null projectId rebuilds the unassigned tasks
+    public void rebuildProject(Long projectId) {
+        rebuild(id -> Objects.equals(projectId, id), () -> projectId != null
+                ? taskRepository.countByStatusPriorityForProject(projectId)
+                : taskRepository.countByStatusPriorityUnassigned());
+    }
+
+    // Collected before commit and applied right after it (see PendingChanges)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(List.of(event));
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            rebuildLock.readLock().lock();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.events.add(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+        if (event.isAllProjects()) {
+            rebuildAll();
+        } else {
+            event.getProjectIds().forEach(this::rebuildProject);
+        }
+    }
+
+    // Constant time: 3 statuses x 3 priorities lookups, regardless of task volume
+    public TaskCountsResponse countsForProject(Long projectId) {
+        Map<Status, Long> byStatus = new EnumMap<>(Status.class);
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        long total = 0;
+
+        for (Status status : Status.values()) {
+            for (Priority priority : Priority.values()) {
+                LongAdder adder = counts.get(new Key(projectId, status, priority));
+                long count = adder != null ? adder.sum() : 0;
+
+                byStatus.merge(status, count, Long::sum);
+                byPriority.merge(priority, count, Long::sum);
+                total += count;
+            }
+        }
+
+        return new TaskCountsResponse(projectId, total, byStatus, byPriority);
+    }
+
+    // Total across every project (and unassigned tasks)
+    public long totalAll() {
+        return counts.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    // Writers only wait for the two short write-locked steps, never for the GROUP BY itself
+    private void rebuild(Predicate<Long> inScope, Supplier<List<TaskCountRow>> query) {
+        Queue<TaskChangedEvent> missed = new ConcurrentLinkedQueue<>();
+        try {
+            rebuildTransaction.executeWithoutResult(status -> {
+                // Repeatable read keeps the snapshot taken under the write lock for the GROUP BY.
+                // Set on the connection, not the transaction definition: Hibernate can't apply it
+                // once connections are released after each transaction (see ReadReplicaConfig).
+                // The pool resets it when the connection is returned.
+                entityManager.unwrap(Session.class).doWork(connection ->
+                        connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ));
+
+                rebuildLock.writeLock().lock();
+                try {
+                    // Any read of the tasks table takes the transaction's snapshot
+                    taskRepository.findVersionById(0L);
+                    recordings.add(missed);
+                } finally {
+                    rebuildLock.writeLock().unlock();
+                }
+
+                List<TaskCountRow> rows = query.get();
+
+                rebuildLock.writeLock().lock();
+                try {
+                    counts.keySet().removeIf(key -> inScope.test(key.projectId()));
+                    load(rows);
+                    for (TaskChangedEvent event : missed) {
+                        if (event.getBefore() != null && inScope.test(event.getBefore().getProjectId())) {
+                            cell(event.getBefore()).decrement();
+                        }
+                        if (event.getAfter() != null && inScope.test(event.getAfter().getProjectId())) {
+                            cell(event.getAfter()).increment();
+                        }
+                    }
+                } finally {
+                    rebuildLock.writeLock().unlock();
+                }
+            });
+        } finally {
+            recordings.remove(missed);
+        }
+    }
+
+    private void load(List<TaskCountRow> rows) {
+        for (TaskCountRow row : rows) {
+            counts.computeIfAbsent(new Key(row.getProjectId(), row.getStatus(), row.getPriority()), k -> new LongAdder())
+                    .add(row.getTotal());
+        }
+    }
+
+    private void apply(List<TaskChangedEvent> events) {
+        rebuildLock.readLock().lock();
+        try {
+            for (TaskChangedEvent event : events) {
+                if (event.getBefore() != null) {
+                    cell(event.getBefore()).decrement();
+                }
+                if (event.getAfter() != null) {
+                    cell(event.getAfter()).increment();
+                }
+            }
+            recordings.forEach(recording -> recording.addAll(events));
+        } finally {
+            rebuildLock.readLock().unlock();
+        }
+    }
+
+    // One transaction's changes. Holds the read lock taken before the commit; applies the
+    // changes and releases it first thing after the commit, or just releases it on rollback.
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final List<TaskChangedEvent> events = new ArrayList<>();
+        private boolean released;
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public void afterCommit() {
+            try {
+                apply(events);
+            } finally {
+                release();
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            release();
+        }
+
+        // Unbound here as well, so a transaction started from a later after-commit
+        // callback collects its own changes
+        private void release() {
+            if (!released) {
+                released = true;
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskCounters.this);
+                rebuildLock.readLock().unlock();
+            }
+        }
+    }
+
+    private LongAdder cell(TaskChangedEvent.Snapshot snapshot) {
+        Key key = new Key(snapshot.getProjectId(), snapshot.getStatus(), snapshot.getPriority());
+        return counts.computeIfAbsent(key, k -> new LongAdder());
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskmanager.service;
+
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Status;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+// Encodes the keyset position (sort key + id of the last row) into an opaque,
+// URL-safe token for cursor pagination of tasks
+public final class TaskCursor {
+
+    // Columns we can seek on, paired with id as a tie-breaker. All are NOT NULL (V6 migration):
+    // the keyset predicate never matches a NULL, so a nullable column would lose rows.
+    public static final Set<String> SORTABLE_FIELDS =
+            Set.of("id", "title", "status", "priority", "createdAt", "updatedAt");
+
+    private static final String VERSION = "v1";
+
+    private TaskCursor() {
+    }
+
+    // Sort used for cursor mode: the requested field, then id in the same direction
+    public static Sort sortFor(String sortBy, Sort.Direction direction) {
+        if (!SORTABLE_FIELDS.contains(sortBy)) {
+            throw new BadRequestException("Cursor pagination cannot sort by: " + sortBy);
+        }
+        if (sortBy.equals("id")) {
+            return Sort.by(direction, "id");
+        }
+        return Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+    }
+
+    public static String encode(String sortBy, Sort.Direction direction, KeysetScrollPosition position) {
+        Map<String, ?> keys = position.getKeys();
+        String value = sortBy.equals("id") ? "" : String.valueOf(keys.get(sortBy));
+
+        // Value goes last so it may contain the separator (titles can contain anything)
+        String raw = String.join("\n", VERSION, sortBy, direction.name(), String.valueOf(keys.get("id")), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Blank token means "first page"
+    public static ScrollPosition decode(String token, String sortBy, Sort.Direction direction) {
+        if (token == null || token.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = raw.split("\n", 5);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        if (parts.length != 5 || !parts[0].equals(VERSION)) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (!parts[1].equals(sortBy) || !parts[2].equals(direction.name())) {
+            throw new BadRequestException("Cursor was issued for a different sort order");
+        }
+
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            if (!sortBy.equals("id")) {
+                keys.put(sortBy, parseValue(sortBy, parts[4]));
+            }
+            keys.put("id", Long.valueOf(parts[3]));
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        return ScrollPosition.forward(keys);
+    }
+
+    private static Object parseValue(String field, String value) {
+        return switch (field) {
+            case "title" -> value;
+            case "status" -> Status.valueOf(value);
+            case "priority" -> Priority.valueOf(value);
+            case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+            default -> throw new IllegalArgumentException(field);
+        };
+    }
+}
@@ -0,0 +1,146 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskSpecifications;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+// Streams every task matching the list filters straight to an output stream. Rows are
+// read as plain tuples (nothing enters the persistence context) through a server-side
+// cursor of `fetch-size` rows, and written out one by one, so memory use doesn't depend
+// on how many tasks are exported.
+@Service
+public class TaskExportService {
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    // One exported row - the task plus its project's id and name
+    public record Row(Long id, String title, String description, Status status, Priority priority,
+                      Long projectId, String projectName, Long version,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    private static final String CSV_HEADER =
+            "id,title,description,status,priority,projectId,projectName,version,createdAt,updatedAt";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${app.export.statement-timeout-seconds:600}")
+    private int statementTimeoutSeconds;
+
+    // The transaction keeps the cursor open (PostgreSQL only streams with autocommit off).
+    // IOExceptions - typically the client hanging up - end the export and close the cursor.
+    @Transactional(readOnly = true)
+    public long export(Status status, Priority priority, Long projectId, Format format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        long count = 0;
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<Tuple> rows = query(status, priority, projectId).getResultStream()) {
+            for (Tuple tuple : (Iterable<Tuple>) rows::iterator) {
+                Row row = toRow(tuple);
+                if (format == Format.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                count++;
+            }
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private TypedQuery<Tuple> query(Status status, Priority priority, Long projectId) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
+        Join<Task, Project> project = root.join("project", JoinType.LEFT);
+
+        query.select(cb.tuple(
+                root.get("id"), root.get("title"), root.get("description"),
+                root.get("status"), root.get("priority"),
+                project.get("id"), project.get("name"), root.get("version"),
+                root.get("createdAt"), root.get("updatedAt")));
+        query.where(TaskSpecifications.withFilters(status, priority, projectId).toPredicate(root, query, cb));
+        query.orderBy(cb.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .setHint(HibernateHints.HINT_TIMEOUT, statementTimeoutSeconds);
+    }
+
+    private static Row toRow(Tuple tuple) {
+        return new Row(
+                tuple.get(0, Long.class), tuple.get(1, String.class), tuple.get(2, String.class),
+                tuple.get(3, Status.class), tuple.get(4, Priority.class),
+                tuple.get(5, Long.class), tuple.get(6, String.class), tuple.get(7, Long.class),
+                tuple.get(8, LocalDateTime.class), tuple.get(9, LocalDateTime.class));
+    }
+
+    private static void writeCsv(Writer writer, Row row) throws IOException {
+        Object[] fields = {row.id(), row.title(), row.description(), row.status(), row.priority(),
+                row.projectId(), row.projectName(), row.version(), row.createdAt(), row.updatedAt()};
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csv(fields[i]));
+        }
+        writer.write('\n');
+    }
+
+    // RFC 4180: quote fields containing separators, quotes or line breaks; null is empty
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,428 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.BatchItemResult.Outcome;
+import com.taskmanager.dto.CreateTaskRequest;
+import com.taskmanager.dto.ImportSummary;
+import com.taskmanager.event.TasksBulkChangedEvent;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.ProjectRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.DeserializationFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Bulk import of tasks from an NDJSON or CSV request body. Rows are parsed and validated
+// as they stream in (same rules as POST /api/tasks), collected into chunks of `chunk-size`,
+// and each chunk is written in its own transaction: with COPY ... FROM STDIN on PostgreSQL,
+// or as one JDBC batch on other databases (H2 in tests). Ids come from the same pooled
+// generator Hibernate uses, so imported and API-created tasks never collide.
+@Service
+public class TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private static final String COPY_SQL = "COPY tasks (id, title, description, status, priority, project_id, " +
+            "created_at, updated_at, version) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String INSERT_SQL = "INSERT INTO tasks (id, title, description, status, priority, project_id, " +
+            "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private Validator validator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.import.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${app.import.max-reported-rejections:100}")
+    private int maxReportedRejections;
+
+    @Value("${app.import.max-csv-record-length:10000}")
+    private int maxCsvRecordLength;
+
+    private TransactionTemplate transactionTemplate;
+    private ObjectReader rowReader;
+
+    @PostConstruct
+    void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        // Exported rows carry extra fields (id, projectName, ...); ignore them so exports re-import
+        rowReader = objectMapper.readerFor(CreateTaskRequest.class)
+                .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    // A row that parsed and validated, waiting for its chunk to be written
+    private record PendingRow(long rowNumber, CreateTaskRequest request) {
+    }
+
+    // Tracks which project ids exist, resolved in bulk per chunk. A project can be deleted
+    // after it was resolved; forget() makes the next resolve() look it up again.
+    private final class ProjectResolver {
+        private final Set<Long> existing = new HashSet<>();
+        private final Set<Long> missing = new HashSet<>();
+
+        void resolve(List<PendingRow> rows) {
+            Set<Long> unknown = new HashSet<>();
+            for (PendingRow row : rows) {
+                Long projectId = row.request().getProjectId();
+                if (projectId != null && !existing.contains(projectId) && !missing.contains(projectId)) {
+                    unknown.add(projectId);
+                }
+            }
+            if (unknown.isEmpty()) {
+                return;
+            }
+            for (Project project : projectRepository.findAllById(unknown)) {
+                existing.add(project.getId());
+            }
+            unknown.removeAll(existing);
+            missing.addAll(unknown);
+        }
+
+        boolean exists(Long projectId) {
+            return projectId == null || existing.contains(projectId);
+        }
+
+        void forget(List<PendingRow> rows) {
+            rows.forEach(row -> existing.remove(row.request().getProjectId()));
+        }
+    }
+
+    public ImportSummary importTasks(InputStream body, Format format) throws IOException {
+        ImportSummary summary = new ImportSummary(maxReportedRejections);
+        ProjectResolver projects = new ProjectResolver();
+        Set<Long> touchedProjects = new HashSet<>();
+        List<PendingRow> chunk = new ArrayList<>(chunkSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        try {
+            if (format == Format.CSV) {
+                readCsv(reader, summary, chunk, projects, touchedProjects);
+            } else {
+                readNdjson(reader, summary, chunk, projects, touchedProjects);
+            }
+            writeChunk(chunk, summary, projects, touchedProjects);
+        } finally {
+            // Chunks are committed as they go, so report whatever made it in
+            if (!touchedProjects.isEmpty()) {
+                eventPublisher.publishEvent(TasksBulkChangedEvent.forProjects(touchedProjects));
+            }
+        }
+        return summary;
+    }
+
+    private void readNdjson(BufferedReader reader, ImportSummary summary, List<PendingRow> chunk,
+                            ProjectResolver projects, Set<Long> touchedProjects) throws IOException {
+        long rowNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            rowNumber++;
+            CreateTaskRequest request;
+            try {
+                request = rowReader.readValue(line);
+            } catch (JacksonException e) {
+                summary.reject(rowNumber, Outcome.INVALID, List.of("Malformed JSON: " + e.getOriginalMessage()));
+                continue;
+            }
+            if (request == null) {
+                summary.reject(rowNumber, Outcome.INVALID, List.of("Row must be a JSON object"));
+                continue;
+            }
+            accept(rowNumber, request, summary, chunk, projects, touchedProjects);
+        }
+    }
+
+    // The header row names the columns (any order, case-insensitive); unknown columns are ignored
+    private void readCsv(BufferedReader reader, ImportSummary summary, List<PendingRow> chunk,
+                         ProjectResolver projects, Set<Long> touchedProjects) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader, maxCsvRecordLength);
+        List<String> header;
+        try {
+            header = csv.next();
+        } catch (CsvRecordReader.MalformedCsvException e) {
+            throw new BadRequestException("Malformed CSV header: " + e.getMessage());
+        }
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(), i);
+        }
+
+        long rowNumber = 0;
+        List<String> record;
+        while (true) {
+            try {
+                record = csv.next();
+            } catch (CsvRecordReader.MalformedCsvException e) {
+                // No telling where the next record starts: keep what was read, report, stop
+                summary.reject(rowNumber + 1, Outcome.INVALID,
+                        List.of(e.getMessage() + "; the rest of the input was not imported"));
+                return;
+            }
+            if (record == null) {
+                return;
+            }
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+            rowNumber++;
+            List<String> errors = new ArrayList<>();
+            CreateTaskRequest request = new CreateTaskRequest(
+                    column(record, columns, "title"),
+                    column(record, columns, "description"),
+                    parseEnum(Status.class, column(record, columns, "status"), "status", errors),
+                    parseEnum(Priority.class, column(record, columns, "priority"), "priority", errors),
+                    parseLong(column(record, columns, "projectid"), errors));
+            if (!errors.isEmpty()) {
+                summary.reject(rowNumber, Outcome.INVALID, errors);
+                continue;
+            }
+            accept(rowNumber, request, summary, chunk, projects, touchedProjects);
+        }
+    }
+
+    private void accept(long rowNumber, CreateTaskRequest request, ImportSummary summary, List<PendingRow> chunk,
+                        ProjectResolver projects, Set<Long> touchedProjects) {
+        List<String> errors = new ArrayList<>();
+        for (ConstraintViolation<CreateTaskRequest> violation : validator.validate(request)) {
+            errors.add(violation.getMessage());
+        }
+        if (!errors.isEmpty()) {
+            summary.reject(rowNumber, Outcome.INVALID, errors);
+            return;
+        }
+
+        chunk.add(new PendingRow(rowNumber, request));
+        if (chunk.size() >= chunkSize) {
+            writeChunk(chunk, summary, projects, touchedProjects);
+        }
+    }
+
+    private void writeChunk(List<PendingRow> chunk, ImportSummary summary,
+                            ProjectResolver projects, Set<Long> touchedProjects) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<PendingRow> rows = withExistingProjects(chunk, summary, projects);
+        chunk.clear();
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            insert(rows);
+        } catch (DataIntegrityViolationException | ConstraintViolationException e) {
+            // The chunk rolled back, most likely because one of its projects was deleted
+            // mid-import: look its projects up again and retry what is left, once
+            projects.forget(rows);
+            rows = withExistingProjects(rows, summary, projects);
+            if (rows.isEmpty()) {
+                return;
+            }
+            try {
+                insert(rows);
+            } catch (DataIntegrityViolationException | ConstraintViolationException retryFailure) {
+                log.warn("Import chunk of {} rows rejected by the database", rows.size(), retryFailure);
+                rows.forEach(row -> summary.reject(row.rowNumber(), Outcome.INVALID,
+                        List.of("Rejected by the database (constraint violation)")));
+                return;
+            }
+        }
+
+        summary.accept(rows.size());
+        rows.forEach(row -> touchedProjects.add(row.request().getProjectId()));
+    }
+
+    // The rows whose project exists (or that have none); the others are rejected
+    private List<PendingRow> withExistingProjects(List<PendingRow> chunk, ImportSummary summary,
+                                                  ProjectResolver projects) {
+        projects.resolve(chunk);
+        List<PendingRow> rows = new ArrayList<>(chunk.size());
+        for (PendingRow row : chunk) {
+            Long projectId = row.request().getProjectId();
+            if (projects.exists(projectId)) {
+                rows.add(row);
+            } else {
+                summary.reject(row.rowNumber(), Outcome.NOT_FOUND, List.of("Project not found with id: " + projectId));
+            }
+        }
+        return rows;
+    }
+
+    // One chunk, in its own transaction
+    private void insert(List<PendingRow> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+            // Ids first: nothing else may run on the connection while a COPY is open
+            long[] ids = nextIds(session, rows.size());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            session.doWork(connection -> {
+                if (connection.isWrapperFor(PGConnection.class)) {
+                    copy(connection, rows, ids, now);
+                } else {
+                    insertBatch(connection, rows, ids, now);
+                }
+            });
+        });
+    }
+
+    private static long[] nextIds(SharedSessionContractImplementor session, int count) {
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory()
+                .getMappingMetamodel().getEntityDescriptor(Task.class).getGenerator();
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = ((Number) generator.generate(session, null, null, EventType.INSERT)).longValue();
+        }
+        return ids;
+    }
+
+    private static void copy(Connection connection, List<PendingRow> rows, long[] ids, Timestamp now) throws SQLException {
+        StringBuilder data = new StringBuilder(rows.size() * 96);
+        String timestamp = now.toString();
+        for (int i = 0; i < rows.size(); i++) {
+            CreateTaskRequest request = rows.get(i).request();
+            data.append(ids[i]).append(',')
+                    .append(copyField(request.getTitle())).append(',')
+                    .append(copyField(request.getDescription())).append(',')
+                    .append(request.getStatus().name()).append(',')
+                    .append(request.getPriority().name()).append(',')
+                    .append(request.getProjectId() != null ? request.getProjectId().toString() : "").append(',')
+                    .append(timestamp).append(',')
+                    .append(timestamp).append(",0\n");
+        }
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, new StringReader(data.toString()));
+        } catch (IOException e) {
+            throw new SQLException("COPY into tasks failed", e);
+        }
+    }
+
+    private static void insertBatch(Connection connection, List<PendingRow> rows, long[] ids, Timestamp now) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < rows.size(); i++) {
+                CreateTaskRequest request = rows.get(i).request();
+                statement.setLong(1, ids[i]);
+                statement.setString(2, request.getTitle());
+                statement.setString(3, request.getDescription());
+                statement.setString(4, request.getStatus().name());
+                statement.setString(5, request.getPriority().name());
+                if (request.getProjectId() != null) {
+                    statement.setLong(6, request.getProjectId());
+                } else {
+                    statement.setNull(6, Types.BIGINT);
+                }
+                statement.setTimestamp(7, now);
+                statement.setTimestamp(8, now);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    // COPY csv: unquoted empty is NULL, so empty strings must be quoted
+    private static String copyField(String value) {
+        if (value == null) {
+            return "";
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String column(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name, List<String> errors) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            errors.add("Invalid " + name + ": " + value);
+            return null;
+        }
+    }
+
+    private static Long parseLong(String value, List<String> errors) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            errors.add("Invalid projectId: " + value);
+            return null;
+        }
+    }
+}
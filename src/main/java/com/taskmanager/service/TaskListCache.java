@@ -0,0 +1,314 @@
+package com.taskmanager.service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.taskmanager.config.ReadWriteRoutingDataSource;
+import com.taskmanager.event.ProjectChangedEvent;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.event.TasksBulkChangedEvent;
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+// Result cache for task listings (TaskService.getAllTasks). A page is cached as its task ids
+// plus the total count, keyed on the filters, page and sort; the tasks come from a second,
+// smaller cache of detached read-only copies, so a hit whose tasks are all cached costs no SQL.
+// Concurrent misses for the same key wait for one query instead of each running it; the query
+// runs on the first caller's thread (and transaction), outside any cache lock.
+//
+// Invalidation is per project. Every key carries the generation of the project it filters on
+// (listings without a project filter have their own generation), and each committed write
+// bumps the generations of the projects it touched. Pages cached under an older generation are
+// never read again and age out, including one whose query raced with the write. Entries also
+// expire after `ttl-seconds` to bound staleness from writes on other instances.
+//
+// Task copies carry the generation their load started at, and a change replaces the task's
+// entry with a tombstone stamped with a newer generation. A load that read a task before a
+// change and finishes after it therefore never overwrites what the change left behind.
+//
+// Only reads from the primary are cached. With read replicas, a page or task read from a
+// lagging replica and cached under the current generation would be served to everyone -
+// including a client whose own write it misses, and whose reads stay on the primary so they
+// see it (ReadWriteRoutingDataSource's sticky window).
+@Component
+public class TaskListCache {
+
+    private static final String PAGES_CACHE_NAME = "tasks.list";
+    private static final String TASKS_CACHE_NAME = "tasks.entities";
+
+    private record Key(Status status, Priority priority, Long projectId,
+                       int page, int size, Sort sort, long generation) {
+    }
+
+    private record CachedPage(List<Long> ids, long total) {
+    }
+
+    // A detached task copy, or a tombstone (task == null) left by a change, and its generation
+    private record CachedTask(Task task, long generation) {
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${app.task-list-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.task-list-cache.max-pages:10000}")
+    private long maxPages;
+
+    @Value("${app.task-list-cache.max-tasks:20000}")
+    private long maxTasks;
+
+    @Value("${app.task-list-cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    private AsyncCache<Key, CachedPage> pages;
+    private Cache<Long, CachedTask> tasks;
+    private Counter invalidations;
+
+    private final AtomicLong generations = new AtomicLong();
+    private final Map<Long, Long> projectGenerations = new ConcurrentHashMap<>();
+    private volatile long unfilteredGeneration;  // listings without a projectId filter
+    private volatile long floorGeneration;       // raised to invalidate every project at once
+    private final Map<Long, Long> projectRenames = new ConcurrentHashMap<>();  // project id -> generation
+    private final AtomicLong lostTombstones = new AtomicLong();  // newest tombstone no longer in `tasks`
+
+    // Hit/miss/eviction counts come out as cache.* metrics tagged cache=tasks.list and
+    // cache=tasks.entities; generation bumps are counted in cache.invalidations
+    @PostConstruct
+    void init() {
+        pages = Caffeine.newBuilder()
+                .maximumSize(maxPages)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        tasks = Caffeine.newBuilder()
+                .maximumSize(maxTasks)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .evictionListener((Long id, CachedTask entry, RemovalCause cause) -> {
+                    if (entry != null && entry.task() == null) {
+                        lostTombstones.accumulateAndGet(entry.generation(), Math::max);
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, pages.synchronous(), PAGES_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, tasks, TASKS_CACHE_NAME);
+        invalidations = Counter.builder("cache.invalidations")
+                .tag("cache", PAGES_CACHE_NAME)
+                .description("Listings invalidated because tasks in their project changed")
+                .register(meterRegistry);
+    }
+
+    // The page from the cache, or from `query` on a miss (its tasks are cached as well)
+    public Page<Task> getPage(Status status, Priority priority, Long projectId, Pageable pageable,
+                              Supplier<Page<Task>> query) {
+        if (!enabled) {
+            return query.get();
+        }
+
+        long loadGeneration = generations.get();
+        Key key = new Key(status, priority, projectId, pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort(), generationFor(projectId));
+        CompletableFuture<CachedPage> load = new CompletableFuture<>();
+        CompletableFuture<CachedPage> future = pages.get(key, (k, executor) -> load);
+        if (future == load) {
+            Page<Task> page;
+            try {
+                page = query.get();
+            } catch (Throwable e) {
+                // Dropped from the cache; callers waiting on it run the query themselves
+                load.completeExceptionally(e);
+                throw e;
+            }
+            if (ReadWriteRoutingDataSource.readsFromReplica()) {
+                // Dropped from the cache; callers waiting on it run the query with their own routing
+                load.cancel(false);
+                return page;
+            }
+            page.getContent().forEach(task -> cacheCopy(task, loadGeneration));
+            load.complete(new CachedPage(page.getContent().stream().map(Task::getId).toList(), page.getTotalElements()));
+            return page;
+        }
+
+        CachedPage cached;
+        try {
+            cached = future.join();
+        } catch (CompletionException | CancellationException e) {
+            return query.get();
+        }
+        return assemble(cached, pageable);
+    }
+
+    // Drops every cached page and task
+    public void invalidateAll() {
+        invalidateAllPages();
+        // Tombstones go too, so no load that started before now may cache its copies
+        lostTombstones.accumulateAndGet(generations.get(), Math::max);
+        tasks.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        CachedTask entry = tasks.getIfPresent(event.getTaskId());
+        Task cached = entry != null ? entry.task() : null;
+        tasks.put(event.getTaskId(), new CachedTask(null, generations.incrementAndGet()));
+
+        Set<Long> projectIds = new HashSet<>();
+        if (event.getBefore() != null) {
+            projectIds.add(event.getBefore().getProjectId());
+        }
+        if (event.getAfter() != null) {
+            projectIds.add(event.getAfter().getProjectId());
+        }
+        if (projectIds.isEmpty()) {
+            // Content-only update: its project is known only if the task was cached
+            if (cached == null) {
+                invalidateAllPages();
+                return;
+            }
+            projectIds.add(cached.getProject() != null ? cached.getProject().getId() : null);
+        }
+        bump(projectIds);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTasksBulkChanged(TasksBulkChangedEvent event) {
+        if (event.isAllProjects()) {
+            invalidateAll();
+        } else {
+            bump(event.getProjectIds());
+        }
+    }
+
+    // Cached tasks embed their project's name
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Long projectId = event.getProjectId();
+        if (event.getType() == ProjectChangedEvent.Type.UPDATED) {
+            long generation = generations.incrementAndGet();
+            projectRenames.put(projectId, generation);
+            tasks.asMap().replaceAll((id, entry) -> entry.task() != null && entry.task().getProject() != null
+                    && projectId.equals(entry.task().getProject().getId())
+                    ? new CachedTask(null, generation)
+                    : entry);
+        } else if (event.getType() == ProjectChangedEvent.Type.DELETED) {
+            projectRenames.remove(projectId);
+        }
+    }
+
+    private Page<Task> assemble(CachedPage cached, Pageable pageable) {
+        Map<Long, Task> found = new HashMap<>();
+        tasks.getAllPresent(cached.ids()).forEach((id, entry) -> {
+            if (entry.task() != null) {
+                found.put(id, entry.task());
+            }
+        });
+        List<Long> missing = cached.ids().stream().filter(id -> !found.containsKey(id)).toList();
+        if (!missing.isEmpty()) {
+            long loadGeneration = generations.get();
+            List<Task> loaded = taskRepository.findByIdIn(missing);
+            boolean fromReplica = ReadWriteRoutingDataSource.readsFromReplica();
+            for (Task task : loaded) {
+                found.put(task.getId(), fromReplica ? detachedCopy(task) : cacheCopy(task, loadGeneration));
+            }
+        }
+        // A task deleted since the page was cached is skipped until the listing is invalidated
+        List<Task> content = cached.ids().stream().map(found::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, cached.total());
+    }
+
+    // Caches a copy of a task read by a load that started at loadGeneration, unless the task (or
+    // its project's name) changed after that: the entry left by the change is newer than the load.
+    // Without an entry to compare with, the copy is only cached if no tombstone newer than the
+    // load has been evicted. Returns the copy either way.
+    private Task cacheCopy(Task task, long loadGeneration) {
+        Task copy = detachedCopy(task);
+        Long projectId = copy.getProject() != null ? copy.getProject().getId() : null;
+        if (projectId != null && projectRenames.getOrDefault(projectId, 0L) > loadGeneration) {
+            return copy;
+        }
+        tasks.asMap().compute(task.getId(), (id, current) -> {
+            if (current != null) {
+                return current.generation() > loadGeneration ? current : new CachedTask(copy, loadGeneration);
+            }
+            return lostTombstones.get() > loadGeneration ? null : new CachedTask(copy, loadGeneration);
+        });
+        return copy;
+    }
+
+    private long generationFor(Long projectId) {
+        if (projectId == null) {
+            return unfilteredGeneration;
+        }
+        return Math.max(projectGenerations.getOrDefault(projectId, 0L), floorGeneration);
+    }
+
+    // A null id stands for unassigned tasks, which only unfiltered listings show
+    private void bump(Set<Long> projectIds) {
+        long generation = generations.incrementAndGet();
+        for (Long projectId : projectIds) {
+            if (projectId != null) {
+                projectGenerations.put(projectId, generation);
+            }
+        }
+        unfilteredGeneration = generation;
+        invalidations.increment();
+    }
+
+    private void invalidateAllPages() {
+        long generation = generations.incrementAndGet();
+        floorGeneration = generation;
+        unfilteredGeneration = generation;
+        projectGenerations.clear();
+        pages.synchronous().invalidateAll();
+        invalidations.increment();
+    }
+
+    private static Task detachedCopy(Task task) {
+        Task copy = new Task(task.getTitle(), task.getDescription(), task.getPriority(), task.getStatus());
+        copy.setId(task.getId());
+        copy.setVersion(task.getVersion());
+        copy.setCreatedAt(task.getCreatedAt());
+        copy.setUpdatedAt(task.getUpdatedAt());
+        if (task.getProject() != null) {
+            Project project = new Project(task.getProject().getName(), null);
+            project.setId(task.getProject().getId());
+            copy.setProject(project);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,148 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.CursorPage;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.NotImplementedException;
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Full-text search over task titles and descriptions, backed by the generated
+// tasks.search_vector column and its GIN index (db/vendor/postgresql/V5). Matches are
+// ordered by ts_rank (title hits first), then id, and paged with a keyset cursor on
+// (rank, id). A page is two statements: the ranked ids, then those tasks with their projects.
+// Other databases (H2 in tests and the loadtest profile) have neither, so search answers 501.
+@Service
+public class TaskSearchService {
+
+    private static final String CURSOR_VERSION = "s1";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Value("${spring.datasource.url}")
+    private String datasourceUrl;
+
+    // q uses web search syntax: words are ANDed, "quoted phrases", OR, -excluded
+    @Transactional(readOnly = true)
+    public CursorPage<Task> search(String q, Status status, Priority priority, Long projectId,
+                                   String after, int size) {
+        if (!datasourceUrl.startsWith("jdbc:postgresql:")) {
+            throw new NotImplementedException("Search requires PostgreSQL");
+        }
+        if (q == null || q.isBlank()) {
+            throw new BadRequestException("Search query must not be empty");
+        }
+        Position position = decode(after);
+
+        StringBuilder sql = new StringBuilder(
+                "SELECT m.id, m.rank FROM (" +
+                "SELECT t.id, ts_rank(t.search_vector, q.query) AS rank " +
+                "FROM tasks t, websearch_to_tsquery('english', :q) AS q(query) " +
+                "WHERE t.search_vector @@ q.query");
+        Map<String, Object> params = new HashMap<>();
+        params.put("q", q);
+        if (status != null) {
+            sql.append(" AND t.status = :status");
+            params.put("status", status.name());
+        }
+        if (priority != null) {
+            sql.append(" AND t.priority = :priority");
+            params.put("priority", priority.name());
+        }
+        if (projectId != null) {
+            sql.append(" AND t.project_id = :projectId");
+            params.put("projectId", projectId);
+        }
+        sql.append(") m");
+        if (position != null) {
+            // Rank descending, id ascending: rows after the cursor rank lower, or tie and have a larger id
+            sql.append(" WHERE m.rank < :rank OR (m.rank = :rank AND m.id > :afterId)");
+            params.put("rank", position.rank());
+            params.put("afterId", position.id());
+        }
+        sql.append(" ORDER BY m.rank DESC, m.id LIMIT :limit");
+        params.put("limit", size + 1);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+        @SuppressWarnings("unchecked")
+        List<Object[]> matches = query.getResultList();
+
+        boolean hasNext = matches.size() > size;
+        if (hasNext) {
+            matches = matches.subList(0, size);
+        }
+        if (matches.isEmpty()) {
+            return new CursorPage<>(List.of(), size, false, null);
+        }
+
+        List<Long> ids = new ArrayList<>(matches.size());
+        for (Object[] match : matches) {
+            ids.add(((Number) match[0]).longValue());
+        }
+        Map<Long, Task> tasks = taskRepository.findByIdIn(ids).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        // Keep the rank order; a task deleted between the two statements is just skipped
+        List<Task> content = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Task task = tasks.get(id);
+            if (task != null) {
+                content.add(task);
+            }
+        }
+
+        String nextCursor = null;
+        if (hasNext) {
+            Object[] last = matches.get(matches.size() - 1);
+            nextCursor = encode(((Number) last[1]).floatValue(), ((Number) last[0]).longValue());
+        }
+        return new CursorPage<>(content, size, hasNext, nextCursor);
+    }
+
+    record Position(float rank, long id) {
+    }
+
+    // ts_rank is a real, and Float.toString round-trips it exactly, so ties compare equal
+    static String encode(float rank, long id) {
+        String raw = String.join("\n", CURSOR_VERSION, Float.toString(rank), Long.toString(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Blank token means "first page"
+    static Position decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\n");
+            if (parts.length != 3 || !parts[0].equals(CURSOR_VERSION)) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return new Position(Float.parseFloat(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+}
@@ -1,17 +1,40 @@
 package com.taskmanager.service;
 
+import com.taskmanager.dto.CursorPage;
+import com.taskmanager.dto.PatchTaskRequest;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.exception.PreconditionFailedException;
 import com.taskmanager.exception.TaskNotFoundException;
 import com.taskmanager.model.Priority;
 import com.taskmanager.model.Project;
 import com.taskmanager.model.Status;
 import com.taskmanager.model.Task;
-import com.taskmanager.repository.ProjectRepository;
 import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.repository.TaskSpecifications;
+import com.taskmanager.repository.TaskStateRow;
+import com.taskmanager.repository.TaskTagRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.exception.ConstraintViolationException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 
 @Service
@@ -21,70 +44,86 @@ public class TaskService {
     private TaskRepository taskRepository;
 
     @Autowired
-    private ProjectRepository projectRepository;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    @Autowired
+    private ProjectLookupCache projectLookupCache;
+
+    @Autowired
+    private TaskListCache taskListCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     // Create new task - accepts projectId directly
+    @Transactional
     public Task createTask(Task task, Long projectId) {
-        // If a projectId is provided, fetch and set the project
+        // If a projectId is provided, attach the project (no SELECT when it's cached)
         if (projectId != null) {
-            Project project = projectRepository.findById(projectId)
-                    .orElseThrow(() -> new TaskNotFoundException("Project not found with id: " + projectId));
-            task.setProject(project);
+            task.setProject(projectLookupCache.getReference(projectId));
         }
-        return taskRepository.save(task);
+        Task savedTask = saveAndFlush(task);
+        eventPublisher.publishEvent(TaskChangedEvent.created(savedTask));
+        return savedTask;
     }
 
-    // Get all tasks
+    // Get all tasks - any combination of filters, backed by the composite
+    // indexes in db/migration/V2__task_filter_indexes.sql.
+    // Read-only transactions go to a read replica when app.read-replicas.enabled=true.
+    // Pages are served from TaskListCache until a write touches their project.
+    @Transactional(readOnly = true)
     public Page<Task> getAllTasks(Status status, Priority priority, Long projectId, Pageable pageable) {
-        // Filter by all three: status, priority, and project
-        if (status != null && priority != null && projectId != null) {
-            return taskRepository.findByStatusAndPriorityAndProjectId(status, priority, projectId, pageable);
-        }
-
-        // Filter by status and project
-        if (status != null && projectId != null) {
-            return taskRepository.findByStatusAndProjectId(status, projectId, pageable);
-        }
-
-        // Filter by priority and project
-        if (priority != null && projectId != null) {
-            return taskRepository.findByPriorityAndProjectId(priority, projectId, pageable);
-        }
-
-        // Filter by project only
-        if (projectId != null) {
-            return taskRepository.findByProjectId(projectId, pageable);
-        }
+        return taskListCache.getPage(status, priority, projectId, pageable, () ->
+                taskRepository.findAll(TaskSpecifications.withFilters(status, priority, projectId), pageable));
+    }
 
-        // If both status and priority are specified
-        if (status != null && priority != null) {
-            return taskRepository.findByStatusAndPriority(status, priority, pageable);
-        }
+    // Get tasks after a cursor (keyset pagination) - no OFFSET and no COUNT query,
+    // so page 10,000 costs the same as page 1
+    @Transactional(readOnly = true)
+    public CursorPage<Task> getTasksAfter(Status status, Priority priority, Long projectId,
+                                          String after, int size, String sortBy, Sort.Direction direction) {
+        Sort sort = TaskCursor.sortFor(sortBy, direction);
+        ScrollPosition position = TaskCursor.decode(after, sortBy, direction);
 
-        // If only status is specified
-        if (status != null) {
-            return taskRepository.findByStatus(status, pageable);
-        }
+        Window<Task> window = taskRepository.findBy(
+                TaskSpecifications.withFilters(status, priority, projectId).and(TaskSpecifications.fetchProject()),
+                query -> query.sortBy(sort).limit(size).scroll(position));
 
-        // If only priority is specified
-        if (priority != null) {
-            return taskRepository.findByPriority(priority, pageable);
+        String nextCursor = null;
+        if (window.hasNext() && !window.isEmpty()) {
+            KeysetScrollPosition last = (KeysetScrollPosition) window.positionAt(window.size() - 1);
+            nextCursor = TaskCursor.encode(sortBy, direction, last);
         }
 
-        // No filters - return all tasks
-        return taskRepository.findAll(pageable);
+        return new CursorPage<>(window.getContent(), size, window.hasNext(), nextCursor);
     }
 
     // Get task by ID
+    @Transactional(readOnly = true)
     public Optional<Task> getTaskById(Long id) {
         return taskRepository.findById(id);
     }
 
+    // ETag inputs only (no entity load), for conditional GETs
+    @Transactional(readOnly = true)
+    public Optional<TaskTagRow> getTaskTag(Long id) {
+        return taskRepository.findTagById(id);
+    }
+
     // Update existing task
-    // Update existing task - accepts projectId directly
-    public Task updateTask(Long id, Task taskDetails, Long projectId) {
+    // Update existing task - accepts projectId directly. expectedVersions comes from
+    // If-Match (null = unconditional); @Version still catches races after the check.
+    @Transactional
+    public Task updateTask(Long id, Task taskDetails, Long projectId, Collection<Long> expectedVersions) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
+        if (expectedVersions != null && !expectedVersions.contains(task.getVersion())) {
+            throw new PreconditionFailedException("Task with ID " + id + " has been modified, reload it and retry");
+        }
+        TaskChangedEvent.Snapshot before = TaskChangedEvent.Snapshot.of(task);
 
         task.setTitle(taskDetails.getTitle());
         task.setDescription(taskDetails.getDescription());
@@ -93,26 +132,158 @@ public class TaskService {
 
         // Handle project assignment/update
         if (projectId != null) {
-            Project project = projectRepository.findById(projectId)
-                    .orElseThrow(() -> new TaskNotFoundException("Project not found with id: " + projectId));
-            task.setProject(project);
+            // Keep the project loaded with the task when it doesn't change
+            if (task.getProject() == null || !projectId.equals(task.getProject().getId())) {
+                task.setProject(projectLookupCache.getReference(projectId));
+            }
         } else {
             // If projectId is null, remove the assignment
             task.setProject(null);
         }
 
-        return taskRepository.save(task);
+        Task savedTask = saveAndFlush(task);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(before, savedTask));
+        return savedTask;
+    }
+
+    // Partial update - one UPDATE of just the sent columns, guarded by the version the
+    // client last saw; no entity is loaded. Returns the new version.
+    // That version comes from If-Match (expectedVersions, 412 when it's stale), else from the
+    // body's "version" (409 when stale); If-Match: * without a body version is unconditional.
+    // Patches that touch status/priority/project first read those columns (one narrow
+    // SELECT) so the counters get an exact before/after.
+    @Transactional
+    public long patchTask(Long id, PatchTaskRequest patch, Collection<Long> expectedVersions) {
+        if (patch.isEmpty()) {
+            throw new BadRequestException("Patch must contain at least one field to change");
+        }
+
+        Project project = null;
+        if (patch.getProjectId() != null) {
+            project = projectLookupCache.getReference(patch.getProjectId());
+        }
+
+        TaskStateRow before = null;
+        Long version;
+        if (patch.changesCountedFields()) {
+            before = taskRepository.findStateById(id)
+                    .orElseThrow(() -> new TaskNotFoundException(id));
+            version = checkedVersion(id, before.getVersion(), patch, expectedVersions);
+        } else if (expectedVersions != null && expectedVersions.size() == 1) {
+            version = expectedVersions.iterator().next();
+        } else if (expectedVersions == null && patch.getVersion() != null) {
+            version = patch.getVersion();
+        } else {
+            // Several tags or *: the one UPDATE needs the single version they stand for
+            Long current = taskRepository.findVersionById(id)
+                    .orElseThrow(() -> new TaskNotFoundException(id));
+            version = checkedVersion(id, current, patch, expectedVersions);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+
+        if (patch.getTitle() != null) {
+            update.set(root.<String>get("title"), patch.getTitle());
+        }
+        if (patch.hasDescription()) {
+            update.set(root.<String>get("description"), patch.getDescription());
+        }
+        if (patch.getStatus() != null) {
+            update.set(root.<Status>get("status"), patch.getStatus());
+        }
+        if (patch.getPriority() != null) {
+            update.set(root.<Priority>get("priority"), patch.getPriority());
+        }
+        if (patch.hasProjectId()) {
+            update.set(root.<Project>get("project"), project != null ? cb.literal(project) : cb.nullLiteral(Project.class));
+        }
+        // Bulk updates skip @Version/@UpdateTimestamp handling, so maintain both here
+        update.set(root.<Long>get("version"), cb.sum(root.<Long>get("version"), 1L));
+        update.set(root.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        update.where(cb.equal(root.get("id"), id), cb.equal(root.get("version"), version));
+
+        int updated;
+        try {
+            updated = entityManager.createQuery(update).executeUpdate();
+        } catch (ConstraintViolationException e) {
+            throw projectGoneOr(e, project);
+        }
+        if (updated == 0) {
+            Long current = taskRepository.findVersionById(id)
+                    .orElseThrow(() -> new TaskNotFoundException(id));
+            checkedVersion(id, current, patch, expectedVersions);
+            // Matched when read, changed before the UPDATE: lost a race
+            throw new ObjectOptimisticLockingFailureException(Task.class, id);
+        }
+
+        if (before != null) {
+            TaskChangedEvent.Snapshot after = new TaskChangedEvent.Snapshot(
+                    patch.hasProjectId() ? patch.getProjectId() : before.getProjectId(),
+                    patch.getStatus() != null ? patch.getStatus() : before.getStatus(),
+                    patch.getPriority() != null ? patch.getPriority() : before.getPriority());
+            eventPublisher.publishEvent(TaskChangedEvent.updated(id,
+                    new TaskChangedEvent.Snapshot(before.getProjectId(), before.getStatus(), before.getPriority()), after));
+        } else {
+            eventPublisher.publishEvent(TaskChangedEvent.contentUpdated(id));
+        }
+
+        return version + 1;
+    }
+
+    // The task's current version if the patch's precondition accepts it
+    private static Long checkedVersion(Long id, Long current, PatchTaskRequest patch, Collection<Long> expectedVersions) {
+        if (expectedVersions != null) {
+            if (!expectedVersions.contains(current)) {
+                throw new PreconditionFailedException("Task with ID " + id + " has been modified, reload it and retry");
+            }
+        } else if (patch.getVersion() != null && !patch.getVersion().equals(current)) {
+            throw new ObjectOptimisticLockingFailureException(Task.class, id);
+        }
+        return current;
     }
 
     // Delete task
+    @Transactional
     public void deleteTask(Long id) {
         Task task = taskRepository.findById(id)
                 .orElseThrow(() -> new TaskNotFoundException(id));
         taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(task));
     }
 
-    // Delete all tasks
-    public void deleteAllTasks() {
-        taskRepository.deleteAll();
+    // Delete all tasks in set-based chunks; returns a job when it continues in the background
+    public Optional<BulkDeleteJob> deleteAllTasks() {
+        return bulkDeleteService.deleteAllTasks();
+    }
+
+    // Flushed here rather than at commit, so a foreign-key failure can still be mapped
+    private Task saveAndFlush(Task task) {
+        try {
+            return taskRepository.saveAndFlush(task);
+        } catch (DataIntegrityViolationException e) {
+            throw projectGoneOr(e, task.getProject());
+        }
+    }
+
+    // The project came from ProjectLookupCache, which can hold a project deleted on another
+    // instance (or straight in the database) since it was cached. The write then fails on the
+    // foreign key: answer 404 as a fresh lookup would have, and drop the stale entry.
+    private RuntimeException projectGoneOr(RuntimeException e, Project project) {
+        if (project != null && isForeignKeyViolation(e)) {
+            projectLookupCache.evict(project.getId());
+            return new TaskNotFoundException("Project not found with id: " + project.getId());
+        }
+        return e;
+    }
+
+    private static boolean isForeignKeyViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation) {
+                return violation.getKind() == ConstraintViolationException.ConstraintKind.FOREIGN_KEY;
+            }
+        }
+        return false;
     }
 }
\ No newline at end of file
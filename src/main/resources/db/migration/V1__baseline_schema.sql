@@ -0,0 +1,29 @@
+-- Baseline schema, matching what Hibernate's ddl-auto=update created before
+-- migrations were introduced. Existing databases skip this script through
+-- spring.flyway.baseline-on-migrate (baseline version 1).
+
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username   VARCHAR(255) NOT NULL UNIQUE,
+    password   VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE projects (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name        VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE tasks (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    priority    VARCHAR(255) CHECK (priority IN ('LOW', 'MEDIUM', 'HIGH')),
+    status      VARCHAR(255) CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE')),
+    project_id  BIGINT REFERENCES projects (id),
+    created_at  TIMESTAMP(6),
+    updated_at  TIMESTAMP(6)
+);
@@ -0,0 +1,15 @@
+-- Composite indexes for the task list filters (see TaskSpecifications).
+-- Each filter combination is an equality prefix of one of these, so it becomes an
+-- index range scan. id is last so that, when every leading column is fixed, the
+-- default sort (and keyset pagination on id) reads straight off the index too:
+--
+--   projectId [+ status [+ priority]]  -> idx_tasks_project_status_priority
+--   projectId + priority               -> idx_tasks_project_priority
+--   status [+ priority]                -> idx_tasks_status_priority
+--   priority                           -> idx_tasks_priority
+--   no filter                          -> primary key
+
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_priority ON tasks (project_id, status, priority, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_priority ON tasks (project_id, priority, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_status_priority ON tasks (status, priority, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_priority ON tasks (priority, id);
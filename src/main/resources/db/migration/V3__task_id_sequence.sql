@@ -0,0 +1,4 @@
+-- Task ids now come from a pooled sequence (Task.id, allocationSize = 50) instead of
+-- the identity column, so Hibernate can assign ids up front and batch the INSERTs.
+-- Each nextval() hands out a block of 50 ids.
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
@@ -0,0 +1,4 @@
+-- Optimistic locking: Hibernate bumps these on every update (Task.version, Project.version).
+-- They also back the ETags on GET /api/tasks/{id} and /api/projects/{id}.
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
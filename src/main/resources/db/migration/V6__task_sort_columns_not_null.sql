@@ -0,0 +1,13 @@
+-- Cursor pagination (TaskCursor) seeks on status, priority, created_at and updated_at with
+-- "(column, id) > (?, ?)", which never matches a NULL: such rows would silently drop out of
+-- cursor pages. The API has always required these fields, so NULLs can only come from rows
+-- written before the baseline schema; give them the defaults and forbid new ones.
+UPDATE tasks SET status = 'TODO' WHERE status IS NULL;
+UPDATE tasks SET priority = 'MEDIUM' WHERE priority IS NULL;
+UPDATE tasks SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP) WHERE created_at IS NULL;
+UPDATE tasks SET updated_at = created_at WHERE updated_at IS NULL;
+
+ALTER TABLE tasks ALTER COLUMN status SET NOT NULL;
+ALTER TABLE tasks ALTER COLUMN priority SET NOT NULL;
+ALTER TABLE tasks ALTER COLUMN created_at SET NOT NULL;
+ALTER TABLE tasks ALTER COLUMN updated_at SET NOT NULL;
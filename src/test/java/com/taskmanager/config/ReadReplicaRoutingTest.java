@@ -0,0 +1,152 @@
+package com.taskmanager.config;
+
+import com.taskmanager.model.Project;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.security.JwtUtil;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Read/write routing against two local databases: the primary, migrated by the application,
+// and a "replica" with the same schema that never receives replication, so the data in a
+// response shows which database answered.
+@SpringBootTest(properties = {
+        "spring.datasource.url=" + ReadReplicaRoutingTest.PRIMARY_URL,
+        "app.read-replicas.enabled=true",
+        "app.read-replicas.urls=" + ReadReplicaRoutingTest.REPLICA_URL,
+        "app.read-replicas.sticky-ms=60000",
+        "app.read-replicas.max-lag-ms=1000",
+        "app.read-replicas.check-interval-ms=50",
+        "app.read-replicas.lag-query=SELECT seconds FROM replica_lag"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+
+    static final String PRIMARY_URL =
+            "jdbc:h2:mem:routing-primary;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+    static final String REPLICA_URL =
+            "jdbc:h2:mem:routing-replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final String REPLICA_PROJECT = "Only on the replica";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    // Before the context starts: the replica pool checks the replica right away
+    static {
+        Flyway.configure().dataSource(REPLICA_URL, "sa", "").locations("classpath:db/migration").load().migrate();
+        replica.update("INSERT INTO projects (name, created_at, updated_at, version) " +
+                "VALUES (?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0)", REPLICA_PROJECT);
+        replica.execute("CREATE TABLE replica_lag (seconds DOUBLE PRECISION NOT NULL)");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ReplicaPool replicaPool;
+
+    @Test
+    void readOnlyReadsGoToTheReplica() throws Exception {
+        projectRepository.save(new Project("Primary project for reads", null));
+
+        listProjects("reader")
+                .andExpect(jsonPath("$.content[*].name", hasItem(REPLICA_PROJECT)))
+                .andExpect(jsonPath("$.content[*].name", not(hasItem("Primary project for reads"))));
+    }
+
+    @Test
+    void clientReadsItsOwnWritesFromThePrimary() throws Exception {
+        mockMvc.perform(post("/api/projects")
+                        .header("Authorization", token("writer"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Written by writer\"}"))
+                .andExpect(status().isCreated());
+
+        listProjects("writer")
+                .andExpect(jsonPath("$.content[*].name", hasItem("Written by writer")));
+        listProjects("someone-else")
+                .andExpect(jsonPath("$.content[*].name", not(hasItem("Written by writer"))));
+    }
+
+    @Test
+    void taskListingReadFromTheReplicaIsNotCachedForTheWriter() throws Exception {
+        Long projectId = projectRepository.save(new Project("Listed project", null)).getId();
+        mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", token("task-writer"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Written by task-writer\",\"status\":\"TODO\",\"priority\":\"LOW\","
+                                + "\"projectId\":" + projectId + "}"))
+                .andExpect(status().isCreated());
+
+        // Another client lists the project first: a miss, answered by the replica (no such task)
+        listTasks("task-reader", projectId)
+                .andExpect(jsonPath("$.content[*].title", not(hasItem("Written by task-writer"))));
+
+        listTasks("task-writer", projectId)
+                .andExpect(jsonPath("$.content[*].title", hasItem("Written by task-writer")));
+    }
+
+    @Test
+    void laggingReplicaIsEjectedUntilItCatchesUp() throws Exception {
+        projectRepository.save(new Project("Primary project for lag", null));
+
+        replica.update("UPDATE replica_lag SET seconds = 30");
+        try {
+            awaitTrue(() -> replicaPool.healthyCount() == 0);
+            listProjects("lag-reader")
+                    .andExpect(jsonPath("$.content[*].name", hasItem("Primary project for lag")));
+        } finally {
+            replica.update("UPDATE replica_lag SET seconds = 0");
+        }
+
+        awaitTrue(() -> replicaPool.healthyCount() == 1);
+        listProjects("lag-reader")
+                .andExpect(jsonPath("$.content[*].name", hasItem(REPLICA_PROJECT)));
+    }
+
+    private ResultActions listProjects(String username) throws Exception {
+        return mockMvc.perform(get("/api/projects?size=1000").header("Authorization", token(username)))
+                .andExpect(status().isOk());
+    }
+
+    private ResultActions listTasks(String username, Long projectId) throws Exception {
+        return mockMvc.perform(get("/api/tasks?projectId=" + projectId).header("Authorization", token(username)))
+                .andExpect(status().isOk());
+    }
+
+    private String token(String username) {
+        return "Bearer " + jwtUtil.generateToken(username);
+    }
+
+    private static void awaitTrue(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "condition not met within 5s");
+            Thread.sleep(20);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.taskmanager.config;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.security.JwtUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// SQL accounting: per-request counts in the X-SQL-* headers and metrics, and repeated
+// statement shapes flagged as a likely N+1.
+@SpringBootTest(properties = {
+        "app.sql-stats.response-headers=true",
+        "app.sql-stats.repeat-threshold=3"
+})
+@AutoConfigureMockMvc
+class SqlStatementAccountingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SqlStatementMonitor monitor;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void responseCarriesTheRequestsStatementCount() throws Exception {
+        Task task = taskRepository.save(new Task("Counted", null, Priority.LOW, Status.TODO));
+
+        mockMvc.perform(get("/api/tasks/" + task.getId())
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken("sql-stats-test")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-SQL-Statements", "1"))
+                .andExpect(header().string("X-SQL-Max-Repeats", "1"))
+                .andExpect(header().exists("X-SQL-Time-Ms"));
+
+        assertNotNull(meterRegistry.find("db.request.statements").tag("uri", "/api/tasks/{id}").summary());
+    }
+
+    @Test
+    void statementRepeatedWithDifferentLiteralsIsFlagged() {
+        SqlStatementMonitor.RequestStats stats = monitor.begin("GET /test");
+        try {
+            for (int id = 1; id <= 5; id++) {
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE id = " + id, Long.class);
+            }
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM projects WHERE name = 'x'", Long.class);
+        } finally {
+            monitor.end();
+        }
+        monitor.record(stats, "GET", "/test");
+
+        assertEquals(6, stats.getStatements());
+        assertEquals(5, stats.getMaxRepeats());
+        assertEquals("SELECT COUNT(*) FROM tasks WHERE id = ?", stats.getRepeatedShape());
+        assertEquals(1.0, meterRegistry.get("db.request.repeated.statements").tag("uri", "/test").counter().count());
+    }
+
+    @Test
+    void shapesHideLiteralsAndListLengths() {
+        assertEquals("select * from tasks where title = ? and id in (?)",
+                monitor.shapeOf("select *\n  from tasks where title = 'it''s' and id in (1, 2, 3)"));
+        assertEquals("select t1_0.id from tasks t1_0 where t1_0.id in (?)",
+                monitor.shapeOf("select t1_0.id from tasks t1_0 where t1_0.id in (?,?,?,?)"));
+        assertNull(monitor.begin("GET /other").getRepeatedShape());
+        monitor.end();
+    }
+}
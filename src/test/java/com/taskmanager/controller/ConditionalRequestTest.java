@@ -0,0 +1,175 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.security.JwtUtil;
+import com.taskmanager.service.TaskCounters;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// ETags and conditional requests: 304 while the whole representation is unchanged - including
+// the parts that change without a version bump - 412 for a stale If-Match, 409 for a stale PATCH.
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalRequestTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    private String token;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        token = "Bearer " + jwtUtil.generateToken("conditional-test");
+        project = projectRepository.save(new Project("Conditional", null));
+        Task created = new Task("Tagged", null, Priority.LOW, Status.TODO);
+        created.setProject(project);
+        task = taskRepository.save(created);
+        // Saved past the service: count it, as the project ETag reads the counters
+        taskCounters.rebuildProject(project.getId());
+    }
+
+    @Test
+    void unchangedTaskAnswers304() throws Exception {
+        String etag = etagOf("/api/tasks/" + task.getId());
+
+        mockMvc.perform(get("/api/tasks/" + task.getId())
+                        .header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    void projectRenameChangesTheTaskETag() throws Exception {
+        String etag = etagOf("/api/tasks/" + task.getId());
+
+        mockMvc.perform(put("/api/projects/" + project.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/tasks/" + task.getId())
+                        .header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.project.name").value("Renamed"));
+    }
+
+    @Test
+    void newTaskChangesTheProjectETag() throws Exception {
+        String etag = etagOf("/api/projects/" + project.getId());
+        mockMvc.perform(get("/api/projects/" + project.getId())
+                        .header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Another\",\"priority\":\"LOW\",\"status\":\"TODO\",\"projectId\":"
+                                + project.getId() + "}"))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/api/projects/" + project.getId())
+                        .header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taskCount").value(2));
+    }
+
+    @Test
+    void projectPutReturnsTheTagGetAnswers304To() throws Exception {
+        String etag = mockMvc.perform(put("/api/projects/" + project.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Renamed\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/projects/" + project.getId())
+                        .header("Authorization", token)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag));
+    }
+
+    @Test
+    void staleIfMatchAnswers412() throws Exception {
+        String etag = etagOf("/api/tasks/" + task.getId());
+        String update = "{\"title\":\"Updated\",\"priority\":\"HIGH\",\"status\":\"TODO\",\"projectId\":"
+                + project.getId() + "}";
+
+        mockMvc.perform(put("/api/tasks/" + task.getId())
+                        .header("Authorization", token)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(update))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(put("/api/tasks/" + task.getId())
+                        .header("Authorization", token)
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(update))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void stalePatchAnswers409() throws Exception {
+        long version = task.getVersion();
+        String body = "{\"version\":" + version + ",\"title\":\"Patched\"}";
+
+        mockMvc.perform(patch("/api/tasks/" + task.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(patch("/api/tasks/" + task.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isConflict());
+    }
+
+    private String etagOf(String url) throws Exception {
+        return mockMvc.perform(get(url).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,111 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.security.JwtUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Task listings must fetch each task's project in the same query: the number of
+// statements per request may not grow with the page size (no N+1 on Task.project).
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.task-list-cache.enabled=false"
+})
+@AutoConfigureMockMvc
+class TaskListQueryCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+
+        // One project per task, so a lazy project load would show up once per row
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Project project = projectRepository.save(new Project("Project " + i, null));
+            Task task = new Task("Task " + i, null, Priority.MEDIUM, Status.TODO);
+            task.setProject(project);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        token = "Bearer " + jwtUtil.generateToken("query-count-test");
+    }
+
+    @Test
+    void pagedListStatementCountDoesNotGrowWithPageSize() throws Exception {
+        long small = statementsFor("/api/tasks?size=5");
+        long large = statementsFor("/api/tasks?size=50");
+
+        assertEquals(small, large);
+    }
+
+    @Test
+    void cursorListStatementCountDoesNotGrowWithPageSize() throws Exception {
+        long small = statementsFor("/api/tasks?after=&size=5");
+        long large = statementsFor("/api/tasks?after=&size=50");
+
+        assertEquals(1, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    void getByIdLoadsTaskAndProjectInOneStatement() throws Exception {
+        Long id = taskRepository.findAll().get(0).getId();
+
+        statistics.clear();
+        mockMvc.perform(get("/api/tasks/" + id).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.project.name").exists())
+                .andExpect(jsonPath("$.project.tasks").doesNotExist());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private long statementsFor(String url) throws Exception {
+        statistics.clear();
+        mockMvc.perform(get(url).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].project.name").exists());
+        return statistics.getPrepareStatementCount();
+    }
+}
@@ -0,0 +1,164 @@
+package com.taskmanager.controller;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// PATCH /api/tasks/{id}: only sent fields change, explicit nulls clear, the version comes from
+// If-Match (412 when stale) or the body (409 when stale), and unknown tasks or projects give 404.
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskPatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private String token;
+    private Project project;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        token = "Bearer " + jwtUtil.generateToken("patch-test");
+        project = projectRepository.save(new Project("Patched", null));
+        Task created = new Task("Original", "Some details", Priority.LOW, Status.TODO);
+        created.setProject(project);
+        task = taskRepository.save(created);
+    }
+
+    @Test
+    void onlySentFieldsChange() throws Exception {
+        patchTask(etagOf(task.getId()), "{\"title\":\"Renamed\",\"status\":\"DONE\"}")
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (task.getVersion() + 1) + "\""));
+
+        fetch(task.getId())
+                .andExpect(jsonPath("$.title").value("Renamed"))
+                .andExpect(jsonPath("$.status").value("DONE"))
+                .andExpect(jsonPath("$.description").value("Some details"))
+                .andExpect(jsonPath("$.priority").value("LOW"))
+                .andExpect(jsonPath("$.project.id").value(project.getId()));
+    }
+
+    @Test
+    void explicitNullClearsDescription() throws Exception {
+        patchTask(etagOf(task.getId()), "{\"description\":null}")
+                .andExpect(status().isNoContent());
+
+        fetch(task.getId())
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.title").value("Original"));
+    }
+
+    @Test
+    void projectCanBeChangedAndCleared() throws Exception {
+        Project other = projectRepository.save(new Project("Other", null));
+
+        patchTask(etagOf(task.getId()), "{\"projectId\":" + other.getId() + "}")
+                .andExpect(status().isNoContent());
+        fetch(task.getId()).andExpect(jsonPath("$.project.id").value(other.getId()));
+
+        patchTask(etagOf(task.getId()), "{\"projectId\":null}")
+                .andExpect(status().isNoContent());
+        fetch(task.getId()).andExpect(jsonPath("$.project").doesNotExist());
+    }
+
+    @Test
+    void unknownTaskOrProjectIs404() throws Exception {
+        patchTask("\"0\"", "{\"title\":\"Nobody\"}", 999_999L)
+                .andExpect(status().isNotFound());
+        patchTask(null, "{\"version\":0,\"status\":\"DONE\"}", 999_999L)
+                .andExpect(status().isNotFound());
+        patchTask(etagOf(task.getId()), "{\"projectId\":999999}")
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void staleIfMatchIs412() throws Exception {
+        String etag = etagOf(task.getId());
+        patchTask(etag, "{\"title\":\"First\"}").andExpect(status().isNoContent());
+
+        patchTask(etag, "{\"title\":\"Second\"}").andExpect(status().isPreconditionFailed());
+        // Counted fields take the path that reads the row first - same answer
+        patchTask(etag, "{\"status\":\"DONE\"}").andExpect(status().isPreconditionFailed());
+        fetch(task.getId()).andExpect(jsonPath("$.title").value("First"));
+    }
+
+    @Test
+    void staleBodyVersionIs409() throws Exception {
+        String body = "{\"version\":" + task.getVersion() + ",\"priority\":\"HIGH\"}";
+        patchTask(null, body).andExpect(status().isNoContent());
+
+        patchTask(null, body).andExpect(status().isConflict());
+    }
+
+    @Test
+    void ifMatchWinsOverTheBodyVersion() throws Exception {
+        patchTask(etagOf(task.getId()), "{\"version\":12345,\"title\":\"Header wins\"}")
+                .andExpect(status().isNoContent());
+        fetch(task.getId()).andExpect(jsonPath("$.title").value("Header wins"));
+    }
+
+    @Test
+    void wildcardIfMatchIsUnconditional() throws Exception {
+        patchTask("*", "{\"title\":\"Anything goes\"}").andExpect(status().isNoContent());
+        fetch(task.getId()).andExpect(jsonPath("$.title").value("Anything goes"));
+    }
+
+    @Test
+    void missingVersionIs400() throws Exception {
+        patchTask(null, "{\"title\":\"Unversioned\"}").andExpect(status().isBadRequest());
+    }
+
+    private ResultActions patchTask(String ifMatch, String body) throws Exception {
+        return patchTask(ifMatch, body, task.getId());
+    }
+
+    private ResultActions patchTask(String ifMatch, String body, Long id) throws Exception {
+        var request = patch("/api/tasks/" + id)
+                .header("Authorization", token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body);
+        if (ifMatch != null) {
+            request.header(HttpHeaders.IF_MATCH, ifMatch);
+        }
+        return mockMvc.perform(request);
+    }
+
+    private ResultActions fetch(Long id) throws Exception {
+        return mockMvc.perform(get("/api/tasks/" + id).header("Authorization", token))
+                .andExpect(status().isOk());
+    }
+
+    private String etagOf(Long id) throws Exception {
+        return fetch(id).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,79 @@
+package com.taskmanager.dto;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// The hand-written items must carry exactly what the default Jackson serialization of
+// Task and ProjectSummary produces (property order aside), timestamps included.
+@SpringBootTest
+class PageResponseSerializerTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void tasksMatchDefaultSerialization() {
+        Project project = new Project("Website \"Redesign\"", "Quarterly work");
+        project.setId(7L);
+
+        Task full = new Task("Design homepage – ünïcode", "Line one\nline two", Priority.HIGH, Status.IN_PROGRESS);
+        full.setId(1L);
+        full.setVersion(3L);
+        full.setProject(project);
+        full.setCreatedAt(LocalDateTime.of(2024, 12, 5, 10, 30, 0));
+        full.setUpdatedAt(LocalDateTime.of(2024, 12, 5, 10, 30, 15, 120_000_000));
+
+        Task fractions = new Task("Fractions", null, Priority.LOW, Status.TODO);
+        fractions.setId(2L);
+        fractions.setVersion(0L);
+        fractions.setCreatedAt(LocalDateTime.of(999, 1, 2, 3, 4, 5, 123_456_789));
+        fractions.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5, 1_000));
+
+        Task empty = new Task();
+
+        assertContentMatches(List.of(full, fractions, empty));
+    }
+
+    @Test
+    void projectSummariesMatchDefaultSerialization() {
+        ProjectSummary summary = new ProjectSummary(4L, "Backend", "API work", 25,
+                LocalDateTime.of(2024, 12, 5, 10, 30, 0, 5), LocalDateTime.of(2024, 12, 6, 0, 0, 0, 123_456_000), 2L);
+
+        assertContentMatches(List.of(summary, new ProjectSummary()));
+    }
+
+    @Test
+    void envelopeCarriesOnlyPagingNumbers() {
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(
+                new PageResponse<>(List.of(), 2, 10, 25, 3)));
+
+        assertEquals(2, json.get("number").asInt());
+        assertEquals(10, json.get("size").asInt());
+        assertEquals(25, json.get("totalElements").asLong());
+        assertEquals(3, json.get("totalPages").asInt());
+        assertFalse(json.get("first").asBoolean());
+        assertEquals(true, json.get("last").asBoolean());
+        assertEquals(7, json.size());
+    }
+
+    private void assertContentMatches(List<?> items) {
+        JsonNode expected = objectMapper.readTree(objectMapper.writeValueAsString(items));
+        JsonNode actual = objectMapper.readTree(objectMapper.writeValueAsString(
+                new PageResponse<>(items, 0, items.size(), items.size(), 1))).get("content");
+
+        assertEquals(expected, actual);
+    }
+}
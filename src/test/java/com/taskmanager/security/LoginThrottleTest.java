@@ -0,0 +1,107 @@
+package com.taskmanager.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Failed-login throttling: 429 + Retry-After once an IP, or a username from that IP, hits its
+// limit - even for the right password - while the same user can still log in from elsewhere.
+@SpringBootTest(properties = {
+        "auth.throttle.max-failures-per-username-and-ip=2",
+        "auth.throttle.max-failures-per-ip=4",
+        "auth.throttle.window-seconds=60"
+})
+@AutoConfigureMockMvc
+class LoginThrottleTest {
+
+    // Distinct users and addresses per test, as the counters outlive each test
+    private static final AtomicInteger ids = new AtomicInteger();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private String username;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        username = "throttled-" + ids.incrementAndGet();
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentials(username, "correct-password")))
+                .andExpect(status().is2xxSuccessful());
+    }
+
+    @Test
+    void repeatedFailuresLockTheUserOutFromThatAddress() throws Exception {
+        String address = nextAddress();
+        login(username, "wrong", address).andExpect(status().isBadRequest());
+        login(username, "wrong", address).andExpect(status().isBadRequest());
+
+        login(username, "correct-password", address)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"));
+    }
+
+    @Test
+    void failuresFromAnotherAddressDontLockTheUserOut() throws Exception {
+        String attacker = nextAddress();
+        for (int i = 0; i < 4; i++) {
+            login(username, "wrong", attacker);
+        }
+        login(username, "correct-password", attacker).andExpect(status().isTooManyRequests());
+
+        login(username, "correct-password", nextAddress()).andExpect(status().isOk());
+    }
+
+    @Test
+    void addressIsLimitedAcrossUsernames() throws Exception {
+        String address = nextAddress();
+        for (int i = 0; i < 4; i++) {
+            login("nobody-" + ids.incrementAndGet(), "wrong", address).andExpect(status().isBadRequest());
+        }
+
+        login(username, "correct-password", address)
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER));
+    }
+
+    @Test
+    void successResetsTheUsersCount() throws Exception {
+        String address = nextAddress();
+        login(username, "wrong", address).andExpect(status().isBadRequest());
+        login(username, "correct-password", address).andExpect(status().isOk());
+        login(username, "wrong", address).andExpect(status().isBadRequest());
+
+        login(username, "correct-password", address).andExpect(status().isOk());
+    }
+
+    private ResultActions login(String username, String password, String address) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .with(request -> {
+                    request.setRemoteAddr(address);
+                    return request;
+                })
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(credentials(username, password)));
+    }
+
+    private static String nextAddress() {
+        return "10.0.0." + ids.incrementAndGet();
+    }
+
+    private static String credentials(String username, String password) {
+        return "{\"username\":\"" + username + "\",\"password\":\"" + password + "\"}";
+    }
+}
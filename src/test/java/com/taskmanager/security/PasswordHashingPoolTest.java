@@ -0,0 +1,144 @@
+package com.taskmanager.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// BCrypt pool saturation: with its one thread busy and its one queue slot taken, the next
+// login - for an existing user or not - is answered 503 + Retry-After at once.
+@SpringBootTest(properties = {
+        "auth.hashing.threads=1",
+        "auth.hashing.queue-capacity=1",
+        // Held logins must not time out (503) while a slow run is still waiting for the pool to fill
+        "auth.hashing.timeout-ms=30000"
+})
+@AutoConfigureMockMvc
+class PasswordHashingPoolTest {
+
+    // Password checks block here while the test holds the gate closed
+    private static volatile CountDownLatch gate = new CountDownLatch(0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PasswordHashingPool passwordHashingPool;
+
+    // Own threads: the common pool may not run both background logins at once
+    private final ExecutorService clients = Executors.newFixedThreadPool(2);
+    private final List<CompletableFuture<?>> background = new ArrayList<>();
+
+    @TestConfiguration
+    static class BlockingEncoderConfig {
+
+        @Bean
+        @Primary
+        PasswordEncoder blockingPasswordEncoder() {
+            BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(4);
+            return new PasswordEncoder() {
+                @Override
+                public String encode(CharSequence rawPassword) {
+                    return bcrypt.encode(rawPassword);
+                }
+
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                    try {
+                        gate.await(30, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return bcrypt.matches(rawPassword, encodedPassword);
+                }
+            };
+        }
+    }
+
+    @AfterEach
+    void openGate() {
+        gate.countDown();
+        background.forEach(CompletableFuture::join);
+        clients.shutdown();
+    }
+
+    @Test
+    void saturatedPoolAnswers503WithRetryAfterForKnownAndUnknownUsers() throws Exception {
+        mockMvc.perform(post("/api/auth/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(credentials("hashing-pool-user")))
+                .andExpect(status().is2xxSuccessful());
+
+        gate = new CountDownLatch(1);
+        // One login on the pool thread, one in the queue
+        for (int i = 0; i < 2; i++) {
+            background.add(CompletableFuture.runAsync(() -> {
+                try {
+                    login().andExpect(status().isOk());
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }, clients));
+        }
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordHashingPool, "executor");
+        waitFor(() -> executor.getActiveCount() == 1 && executor.getQueue().size() == 1);
+
+        login()
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        // An unknown username waits for the pool too, so a burst can't tell the two apart
+        login("no-such-user")
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
+    private ResultActions login() throws Exception {
+        return login("hashing-pool-user");
+    }
+
+    private ResultActions login(String username) throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(credentials(username)));
+    }
+
+    private static String credentials(String username) {
+        return "{\"username\":\"" + username + "\",\"password\":\"correct-password\"}";
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 400; i++) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        fail("Condition not met within 20 seconds");
+    }
+}
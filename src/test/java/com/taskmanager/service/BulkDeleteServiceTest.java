@@ -0,0 +1,105 @@
+package com.taskmanager.service;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Bulk deletes above the async threshold: 202 with a Location to poll, the job running in
+// the background in chunks, and the finished job still readable afterwards.
+@SpringBootTest(properties = {
+        "app.bulk-delete.async-threshold=10",
+        "app.bulk-delete.chunk-size=7"
+})
+@AutoConfigureMockMvc
+class BulkDeleteServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @Test
+    void largeProjectDeleteRunsAsAJobToPoll() throws Exception {
+        String token = "Bearer " + jwtUtil.generateToken("bulk-delete-test");
+        Project project = projectRepository.save(new Project("Large", null));
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            Task task = new Task("Doomed " + i, null, Priority.LOW, Status.TODO);
+            task.setProject(project);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+        // Saved behind the counters' back: the delete's size estimate comes from them
+        taskCounters.rebuildProject(project.getId());
+
+        MvcResult accepted = mockMvc.perform(delete("/api/projects/" + project.getId())
+                        .header("Authorization", token))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists(HttpHeaders.LOCATION))
+                .andExpect(jsonPath("$.scope").value("PROJECT"))
+                .andExpect(jsonPath("$.estimatedTotal").value(25))
+                .andReturn();
+        String location = accepted.getResponse().getHeader(HttpHeaders.LOCATION);
+        String jobId = JsonPath.read(accepted.getResponse().getContentAsString(), "$.id");
+        assertEquals("/api/jobs/" + jobId, location);
+
+        String state = null;
+        for (int poll = 0; poll < 100 && !"COMPLETED".equals(state); poll++) {
+            Thread.sleep(50);
+            String body = mockMvc.perform(get(location).header("Authorization", token))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            state = JsonPath.read(body, "$.state");
+            assertFalse("FAILED".equals(state), body);
+        }
+        assertEquals("COMPLETED", state);
+
+        mockMvc.perform(get(location).header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted").value(25))
+                .andExpect(jsonPath("$.done").value(true))
+                .andExpect(jsonPath("$.finishedAt").exists());
+        assertFalse(projectRepository.existsById(project.getId()));
+        assertEquals(0, taskCounters.countsForProject(project.getId()).getTotal());
+    }
+
+    @Test
+    void unknownJobIs404() throws Exception {
+        mockMvc.perform(get("/api/jobs/no-such-job")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken("bulk-delete-test")))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,204 @@
+package com.taskmanager.service;
+
+import com.taskmanager.event.ProjectChangedEvent;
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.security.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Change feed on a single node (H2, no LISTEN/NOTIFY relay): only committed changes reach
+// subscribers, large transactions coalesce into BULK_CHANGED, subscriptions filter by project,
+// and slow or excess subscribers are turned away.
+@SpringBootTest(properties = {
+        "app.feed.coalesce-threshold=3",
+        "app.feed.buffer-size=4",
+        "app.feed.max-subscribers=3"
+})
+@AutoConfigureMockMvc
+class ChangeFeedTest {
+
+    // Ids far from anything the database hands out; the events never touch a row
+    private static final AtomicLong ids = new AtomicLong(9_000_000);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ChangeFeed changeFeed;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<MvcResult> streams = new ArrayList<>();
+
+    @AfterEach
+    void closeStreams() {
+        // Completing the async request disconnects the subscriber, as a client going away would
+        streams.forEach(stream -> stream.getRequest().getAsyncContext().complete());
+        waitFor(() -> changeFeed.getSubscriberCount() == 0);
+    }
+
+    @Test
+    void onlyCommittedChangesAreSent() throws Exception {
+        MvcResult stream = subscribe(null);
+        long rolledBack = ids.incrementAndGet();
+        long committed = ids.incrementAndGet();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(TaskChangedEvent.created(task(rolledBack, null)));
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(TaskChangedEvent.created(task(committed, null)));
+            // Held until the commit
+            sleep(100);
+            assertFalse(content(stream).contains("\"id\":" + committed));
+        });
+
+        waitFor(() -> content(stream).contains("\"id\":" + committed));
+        assertTrue(content(stream).contains("event:task"));
+        assertFalse(content(stream).contains("\"id\":" + rolledBack));
+    }
+
+    @Test
+    void largeTransactionIsCoalescedIntoOneBulkChange() throws Exception {
+        MvcResult stream = subscribe(null);
+        long projectId = ids.incrementAndGet();
+        List<Long> taskIds = List.of(ids.incrementAndGet(), ids.incrementAndGet(), ids.incrementAndGet(),
+                ids.incrementAndGet());
+
+        transactionTemplate.executeWithoutResult(status ->
+                taskIds.forEach(id -> eventPublisher.publishEvent(TaskChangedEvent.created(task(id, projectId)))));
+
+        waitFor(() -> content(stream).contains("BULK_CHANGED"));
+        String content = content(stream);
+        assertTrue(content.contains("\"projectIds\":[" + projectId + "]"), content);
+        taskIds.forEach(id -> assertFalse(content.contains("\"id\":" + id), content));
+    }
+
+    @Test
+    void projectSubscriptionOnlyGetsThatProjectsChanges() throws Exception {
+        long projectId = ids.incrementAndGet();
+        long otherProjectId = ids.incrementAndGet();
+        MvcResult stream = subscribe(projectId);
+        long otherTask = ids.incrementAndGet();
+        long ownTask = ids.incrementAndGet();
+
+        eventPublisher.publishEvent(TaskChangedEvent.created(task(otherTask, otherProjectId)));
+        eventPublisher.publishEvent(ProjectChangedEvent.updated(otherProjectId));
+        eventPublisher.publishEvent(TaskChangedEvent.created(task(ownTask, projectId)));
+
+        waitFor(() -> content(stream).contains("\"id\":" + ownTask));
+        assertFalse(content(stream).contains("\"id\":" + otherTask));
+        assertFalse(content(stream).contains("\"id\":" + otherProjectId));
+    }
+
+    @Test
+    void subscriberThatFallsBehindIsDropped() throws Exception {
+        subscribe(null);
+        assertEquals(1, changeFeed.getSubscriberCount());
+
+        // Far more changes than the 4-slot buffer can hold while the sender works through it
+        for (int i = 0; i < 100_000 && changeFeed.getSubscriberCount() > 0; i++) {
+            eventPublisher.publishEvent(ProjectChangedEvent.updated(ids.incrementAndGet()));
+        }
+
+        assertEquals(0, changeFeed.getSubscriberCount());
+    }
+
+    @Test
+    void subscribersBeyondTheLimitGet503() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            subscribe(null);
+        }
+
+        mockMvc.perform(get("/api/tasks/stream")
+                        .header("Authorization", token())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    private MvcResult subscribe(Long projectId) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks/stream" + (projectId != null ? "?projectId=" + projectId : ""))
+                        .header("Authorization", token())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        streams.add(result);
+        return result;
+    }
+
+    private String token() {
+        return "Bearer " + jwtUtil.generateToken("feed-test");
+    }
+
+    private static Task task(long id, Long projectId) {
+        Task task = new Task("Fed", null, Priority.LOW, Status.TODO);
+        task.setId(id);
+        if (projectId != null) {
+            Project project = new Project("Feed project", null);
+            project.setId(projectId);
+            task.setProject(project);
+        }
+        return task;
+    }
+
+    private static String content(MvcResult result) {
+        try {
+            return result.getResponse().getContentAsString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void waitFor(BooleanSupplier condition) {
+        for (int i = 0; i < 100; i++) {
+            if (condition.getAsBoolean()) {
+                return;
+            }
+            sleep(50);
+        }
+        fail("Condition not met within 5 seconds");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.security.JwtUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Project near cache on the task write path: a hit costs no SQL, and a cached project deleted
+// behind the cache's back (another instance, or by hand) gives 404, not a foreign-key 500.
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+class ProjectLookupCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectLookupCache projectLookupCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private String token;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        token = "Bearer " + jwtUtil.generateToken("project-cache-test");
+        project = projectRepository.save(new Project("Cached", null));
+        // Loads the project into the cache
+        projectLookupCache.getReference(project.getId());
+    }
+
+    @Test
+    void cachedProjectCostsNoProjectSelect() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        create(project.getId()).andExpect(status().isCreated());
+
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void createAgainstDeletedCachedProjectIs404() throws Exception {
+        deleteBehindTheCache(project.getId());
+
+        create(project.getId())
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.messages[0]").value("Project not found with id: " + project.getId()));
+        // Evicted: the next attempt looks the project up and fails the same way
+        create(project.getId()).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void movingOrPatchingOntoDeletedCachedProjectIs404() throws Exception {
+        Task task = taskRepository.save(new Task("Mover", null, Priority.LOW, Status.TODO));
+        deleteBehindTheCache(project.getId());
+
+        mockMvc.perform(put("/api/tasks/" + task.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Moved\",\"priority\":\"LOW\",\"status\":\"TODO\",\"projectId\":"
+                                + project.getId() + "}"))
+                .andExpect(status().isNotFound());
+
+        projectLookupCache.evict(project.getId());
+        Project recreated = projectRepository.save(new Project("Doomed too", null));
+        projectLookupCache.getReference(recreated.getId());
+        deleteBehindTheCache(recreated.getId());
+
+        mockMvc.perform(patch("/api/tasks/" + task.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"version\":" + task.getVersion() + ",\"projectId\":" + recreated.getId() + "}"))
+                .andExpect(status().isNotFound());
+    }
+
+    private org.springframework.test.web.servlet.ResultActions create(Long projectId) throws Exception {
+        return mockMvc.perform(post("/api/tasks")
+                .header("Authorization", token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"Attached\",\"priority\":\"LOW\",\"status\":\"TODO\",\"projectId\":"
+                        + projectId + "}"));
+    }
+
+    private void deleteBehindTheCache(Long projectId) {
+        jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", projectId);
+        jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+    }
+}
@@ -0,0 +1,188 @@
+package com.taskmanager.service;
+
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.StringJoiner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Batch endpoints end to end: results in request order with per-item outcomes, ids from the
+// pooled tasks_seq optimizer (blocks of 50) that match the stored rows, and the size limits.
+@SpringBootTest(properties = "app.batch.max-items=60")
+@AutoConfigureMockMvc
+class TaskBatchServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private String token;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        token = "Bearer " + jwtUtil.generateToken("batch-test");
+        project = projectRepository.save(new Project("Batched", null));
+    }
+
+    @Test
+    void createSpansSequenceBlocksAndReportsEachItem() throws Exception {
+        // More than one 50-id block, so the optimizer has to fetch a second one mid-batch
+        StringJoiner items = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < 55; i++) {
+            items.add(switch (i) {
+                case 10 -> "{\"title\":\" \",\"status\":\"TODO\",\"priority\":\"LOW\"}";
+                case 20 -> "{\"title\":\"Orphan\",\"status\":\"TODO\",\"priority\":\"LOW\",\"projectId\":999999}";
+                case 30 -> "null";
+                default -> "{\"title\":\"Batch " + i + "\",\"status\":\"TODO\",\"priority\":\"LOW\",\"projectId\":"
+                        + project.getId() + "}";
+            });
+        }
+
+        JsonNode response = perform(post("/api/tasks/batch"), items.toString());
+
+        assertEquals(52, response.get("succeeded").asInt());
+        assertEquals(3, response.get("failed").asInt());
+        JsonNode results = response.get("results");
+        assertEquals("INVALID", results.get(10).get("outcome").asString());
+        assertEquals("NOT_FOUND", results.get(20).get("outcome").asString());
+        assertEquals("INVALID", results.get(30).get("outcome").asString());
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals(i, results.get(i).get("index").asInt());
+            if (results.get(i).get("outcome").asString().equals("CREATED")) {
+                ids.add(results.get(i).get("id").asLong());
+            }
+        }
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i) > ids.get(i - 1), "ids are assigned in request order");
+        }
+        // The returned ids are the stored rows
+        List<Task> stored = taskRepository.findAllById(ids);
+        assertEquals(ids.size(), stored.size());
+        stored.forEach(task -> assertEquals(project.getId(), task.getProject().getId()));
+
+        // A single create afterwards draws from the same pool without colliding
+        JsonNode single = objectMapper.readTree(mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"After\",\"status\":\"TODO\",\"priority\":\"LOW\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString());
+        assertFalse(ids.contains(single.get("id").asLong()));
+    }
+
+    @Test
+    void updateChangesValidItemsAndReportsTheRest() throws Exception {
+        Task first = taskRepository.save(new Task("First", null, Priority.LOW, Status.TODO));
+        Task second = taskRepository.save(new Task("Second", "Old", Priority.LOW, Status.TODO));
+
+        JsonNode response = perform(patch("/api/tasks/batch"), "["
+                + "{\"id\":" + first.getId() + ",\"title\":\"First done\",\"status\":\"DONE\",\"priority\":\"HIGH\","
+                + "\"projectId\":" + project.getId() + "},"
+                + "{\"id\":999999,\"title\":\"Ghost\",\"status\":\"TODO\",\"priority\":\"LOW\"},"
+                + "{\"id\":" + second.getId() + ",\"title\":\"Second\",\"status\":\"TODO\",\"priority\":\"LOW\","
+                + "\"projectId\":999999},"
+                + "{\"title\":\"No id\",\"status\":\"TODO\",\"priority\":\"LOW\"}]");
+
+        assertEquals(1, response.get("succeeded").asInt());
+        JsonNode results = response.get("results");
+        assertEquals("UPDATED", results.get(0).get("outcome").asString());
+        assertEquals(first.getId(), results.get(0).get("id").asLong());
+        assertEquals("NOT_FOUND", results.get(1).get("outcome").asString());
+        assertEquals("NOT_FOUND", results.get(2).get("outcome").asString());
+        assertEquals("INVALID", results.get(3).get("outcome").asString());
+
+        Task updated = taskRepository.findById(first.getId()).orElseThrow();
+        assertEquals("First done", updated.getTitle());
+        assertEquals(Status.DONE, updated.getStatus());
+        assertEquals(first.getVersion() + 1, updated.getVersion());
+        assertEquals("Old", taskRepository.findById(second.getId()).orElseThrow().getDescription());
+    }
+
+    @Test
+    void deleteReportsDuplicatesAndUnknownIds() throws Exception {
+        Long a = taskRepository.save(new Task("A", null, Priority.LOW, Status.TODO)).getId();
+        Long b = taskRepository.save(new Task("B", null, Priority.LOW, Status.TODO)).getId();
+
+        JsonNode response = perform(delete("/api/tasks/batch"), "[" + a + "," + b + "," + a + ",999999,null]");
+
+        assertEquals(2, response.get("succeeded").asInt());
+        assertEquals(3, response.get("failed").asInt());
+        JsonNode results = response.get("results");
+        assertEquals("DELETED", results.get(0).get("outcome").asString());
+        assertEquals("DELETED", results.get(1).get("outcome").asString());
+        for (int i = 2; i < 5; i++) {
+            assertEquals("NOT_FOUND", results.get(i).get("outcome").asString());
+        }
+        assertFalse(taskRepository.existsById(a));
+        assertFalse(taskRepository.existsById(b));
+    }
+
+    @Test
+    void emptyOrOversizedBatchIs400() throws Exception {
+        StringJoiner ids = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < 61; i++) {
+            ids.add(String.valueOf(i));
+        }
+
+        mockMvc.perform(delete("/api/tasks/batch")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(ids.toString()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/tasks/batch")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private JsonNode perform(MockHttpServletRequestBuilder request, String body) throws Exception {
+        String response = mockMvc.perform(request
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(response);
+    }
+}
@@ -0,0 +1,141 @@
+package com.taskmanager.service;
+
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.doAnswer;
+
+// In-memory task counters: a rebuild racing a committing write counts that write once, and
+// writes don't wait for a rebuild's GROUP BY.
+@SpringBootTest
+class TaskCountersTest {
+
+    @Autowired
+    private TaskCounters taskCounters;
+
+    @MockitoSpyBean
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void rebuildBetweenCommitAndIncrementCountsTheWriteOnce() throws Exception {
+        Long projectId = projectRepository.save(new Project("Counted", null)).getId();
+        taskCounters.rebuildProject(projectId);
+        CompletableFuture<?>[] rebuild = new CompletableFuture<?>[1];
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // Runs first thing after the commit: a rebuild on another thread, given time to
+            // read the committed row before the counters apply this transaction's increment
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public int getOrder() {
+                    return Ordered.HIGHEST_PRECEDENCE - 1;
+                }
+
+                @Override
+                public void afterCommit() {
+                    rebuild[0] = CompletableFuture.runAsync(() -> taskCounters.rebuildProject(projectId));
+                    try {
+                        rebuild[0].get(500, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException e) {
+                        // waiting for this transaction's increment - expected
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }
+            });
+
+            Task task = new Task("Raced", null, Priority.HIGH, Status.TODO);
+            task.setProject(projectRepository.getReferenceById(projectId));
+            eventPublisher.publishEvent(TaskChangedEvent.created(taskRepository.save(task)));
+        });
+        rebuild[0].get(5, TimeUnit.SECONDS);
+
+        assertEquals(1, taskCounters.countsForProject(projectId).getTotal());
+    }
+
+    @Test
+    void rolledBackWriteIsNotCounted() {
+        Long projectId = projectRepository.save(new Project("Rolled back", null)).getId();
+        taskCounters.rebuildProject(projectId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Task task = new Task("Never", null, Priority.LOW, Status.TODO);
+            task.setProject(projectRepository.getReferenceById(projectId));
+            eventPublisher.publishEvent(TaskChangedEvent.created(taskRepository.save(task)));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(0, taskCounters.countsForProject(projectId).getTotal());
+        // The lock was released: a rebuild doesn't block
+        taskCounters.rebuildProject(projectId);
+    }
+
+    @Test
+    void writeDuringRebuildQueryCommitsAndIsCountedOnce() throws Exception {
+        Long projectId = projectRepository.save(new Project("Rebuilding", null)).getId();
+        taskCounters.rebuildProject(projectId);
+        CountDownLatch querying = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        // Holds the GROUP BY back until the write below has committed
+        doAnswer(invocation -> {
+            querying.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return taskRepository.countByProjectStatusPriority().stream()
+                    .filter(row -> projectId.equals(row.getProjectId()))
+                    .toList();
+        }).when(taskRepository).countByStatusPriorityForProject(projectId);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CompletableFuture<Void> rebuild = CompletableFuture.runAsync(
+                    () -> taskCounters.rebuildProject(projectId), executor);
+            assertTrue(querying.await(5, TimeUnit.SECONDS));
+
+            CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(status -> {
+                Task task = new Task("Mid-rebuild", null, Priority.MEDIUM, Status.TODO);
+                task.setProject(projectRepository.getReferenceById(projectId));
+                eventPublisher.publishEvent(TaskChangedEvent.created(taskRepository.save(task)));
+            }), executor).get(2, TimeUnit.SECONDS);
+
+            release.countDown();
+            rebuild.get(5, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, taskCounters.countsForProject(projectId).getTotal());
+    }
+}
@@ -0,0 +1,151 @@
+package com.taskmanager.service;
+
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Cursor tokens round-trip every sortable field, reject foreign or tampered tokens, and
+// walking nextCursor visits each task exactly once in sort order, ties included.
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskCursorTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void tokensRoundTripEveryField() {
+        assertRoundTrip("id", Sort.Direction.ASC, null);
+        // The value goes last, so separators inside it survive
+        assertRoundTrip("title", Sort.Direction.DESC, "Line one\nline two");
+        assertRoundTrip("status", Sort.Direction.ASC, Status.IN_PROGRESS);
+        assertRoundTrip("priority", Sort.Direction.DESC, Priority.HIGH);
+        assertRoundTrip("createdAt", Sort.Direction.ASC, LocalDateTime.of(2024, 12, 5, 10, 30, 15, 120_000_000));
+        assertRoundTrip("updatedAt", Sort.Direction.DESC, LocalDateTime.of(2025, 1, 1, 0, 0));
+    }
+
+    @Test
+    void blankTokenIsTheFirstPage() {
+        assertEquals(ScrollPosition.keyset(), TaskCursor.decode("", "id", Sort.Direction.ASC));
+    }
+
+    @Test
+    void foreignOrTamperedTokensAreRejected() {
+        String token = TaskCursor.encode("status", Sort.Direction.ASC,
+                ScrollPosition.forward(Map.of("status", Status.TODO, "id", 5L)));
+
+        assertThrows(BadRequestException.class, () -> TaskCursor.decode(token, "priority", Sort.Direction.ASC));
+        assertThrows(BadRequestException.class, () -> TaskCursor.decode(token, "status", Sort.Direction.DESC));
+        assertThrows(BadRequestException.class, () -> TaskCursor.decode("not a cursor!", "id", Sort.Direction.ASC));
+        assertThrows(BadRequestException.class, () -> TaskCursor.decode(token.substring(0, token.length() - 3),
+                "status", Sort.Direction.ASC));
+        assertThrows(BadRequestException.class, () -> TaskCursor.sortFor("description", Sort.Direction.ASC));
+    }
+
+    @Test
+    void walkingNextCursorVisitsEveryTaskOnceInOrder() throws Exception {
+        Project project = projectRepository.save(new Project("Paged", null));
+        Status[] statuses = {Status.DONE, Status.TODO, Status.IN_PROGRESS, Status.TODO, Status.DONE,
+                Status.TODO, Status.IN_PROGRESS};
+        List<Task> created = new ArrayList<>();
+        for (int i = 0; i < statuses.length; i++) {
+            Task task = new Task("Paged " + i, null, Priority.LOW, statuses[i]);
+            task.setProject(project);
+            created.add(taskRepository.save(task));
+        }
+
+        for (Sort.Direction direction : Sort.Direction.values()) {
+            Comparator<Task> order = Comparator.comparing((Task task) -> task.getStatus().name())
+                    .thenComparing(Task::getId);
+            List<Long> expected = created.stream()
+                    .sorted(direction.isAscending() ? order : order.reversed())
+                    .map(Task::getId)
+                    .toList();
+
+            assertEquals(expected, walk(project.getId(), "status", direction.name().toLowerCase(), 2));
+        }
+    }
+
+    @Test
+    void sortColumnsRejectNulls() {
+        Long id = taskRepository.save(new Task("Not null", null, Priority.LOW, Status.TODO)).getId();
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("UPDATE tasks SET status = NULL WHERE id = ?", id));
+        assertThrows(DataIntegrityViolationException.class,
+                () -> jdbcTemplate.update("UPDATE tasks SET priority = NULL WHERE id = ?", id));
+    }
+
+    private List<Long> walk(Long projectId, String sortBy, String sortDir, int size) throws Exception {
+        String token = "Bearer " + jwtUtil.generateToken("cursor-test");
+        List<Long> ids = new ArrayList<>();
+        String after = "";
+        do {
+            String body = mockMvc.perform(get("/api/tasks")
+                            .header("Authorization", token)
+                            .param("projectId", String.valueOf(projectId))
+                            .param("after", after)
+                            .param("size", String.valueOf(size))
+                            .param("sortBy", sortBy)
+                            .param("sortDir", sortDir))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+            JsonNode page = objectMapper.readTree(body);
+            page.get("content").forEach(task -> ids.add(task.get("id").asLong()));
+            after = page.get("hasNext").asBoolean() ? page.get("nextCursor").asString() : null;
+        } while (after != null);
+        return ids;
+    }
+
+    private static void assertRoundTrip(String sortBy, Sort.Direction direction, Object value) {
+        Map<String, Object> keys = value != null ? Map.of(sortBy, value, "id", 42L) : Map.of("id", 42L);
+        String token = TaskCursor.encode(sortBy, direction, ScrollPosition.forward(keys));
+
+        KeysetScrollPosition decoded = (KeysetScrollPosition) TaskCursor.decode(token, sortBy, direction);
+
+        assertEquals(keys, decoded.getKeys());
+    }
+}
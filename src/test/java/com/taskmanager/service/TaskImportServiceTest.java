@@ -0,0 +1,189 @@
+package com.taskmanager.service;
+
+import com.taskmanager.dto.BatchItemResult;
+import com.taskmanager.dto.ImportSummary;
+import com.taskmanager.model.Project;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Task import on H2 (JDBC batches): CSV and NDJSON rows, invalid rows and unknown projects
+// reported per row, a stray CSV quote ending the import without losing earlier rows, and a
+// project deleted mid-import costing only its own rows.
+@SpringBootTest(properties = {
+        "app.import.chunk-size=2",
+        "app.import.max-csv-record-length=200"
+})
+@AutoConfigureMockMvc
+class TaskImportServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TaskImportService taskImportService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String token;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        token = "Bearer " + jwtUtil.generateToken("import-test");
+        project = projectRepository.save(new Project("Imported", null));
+    }
+
+    @Test
+    void csvImportReportsInvalidRowsAndUnknownProjects() throws Exception {
+        String csv = """
+                title,description,status,priority,projectId
+                First,,TODO,LOW,%d
+                "Second, quoted","Says \"\"hi\"\"",DONE,HIGH,
+                ,missing title,TODO,LOW,
+                Third,,SOMEDAY,LOW,
+                Fourth,,TODO,MEDIUM,999999
+                """.formatted(project.getId());
+
+        mockMvc.perform(post("/api/tasks/import?format=csv")
+                        .header("Authorization", token)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.rejections[0].index").value(3))
+                .andExpect(jsonPath("$.rejections[0].outcome").value("INVALID"))
+                .andExpect(jsonPath("$.rejections[1].index").value(4))
+                .andExpect(jsonPath("$.rejections[1].errors[0]").value("Invalid status: SOMEDAY"))
+                .andExpect(jsonPath("$.rejections[2].index").value(5))
+                .andExpect(jsonPath("$.rejections[2].outcome").value("NOT_FOUND"));
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE project_id = ?",
+                Long.class, project.getId()));
+    }
+
+    @Test
+    void strayQuoteEndsTheImportKeepingEarlierRows() throws Exception {
+        String csv = """
+                title,description,status,priority,projectId
+                One,,TODO,LOW,%d
+                Two,,TODO,LOW,%d
+                Three,,TODO,LOW,%d
+                "Four,oops,TODO,LOW,
+                """.formatted(project.getId(), project.getId(), project.getId())
+                + "Never read,,TODO,LOW,\n".repeat(100);
+
+        mockMvc.perform(post("/api/tasks/import?format=csv")
+                        .header("Authorization", token)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(3))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].index").value(4))
+                .andExpect(jsonPath("$.rejections[0].outcome").value("INVALID"))
+                .andExpect(jsonPath("$.rejections[0].errors[0]").value(
+                        "Record is longer than 200 characters (unterminated quoted field?); the rest of the input was not imported"));
+
+        // Also at the very end of the input, where the quote is simply never closed
+        mockMvc.perform(post("/api/tasks/import?format=csv")
+                        .header("Authorization", token)
+                        .contentType("text/csv")
+                        .content("title,status,priority\nFine,TODO,LOW\n\"Open,TODO,LOW\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(1))
+                .andExpect(jsonPath("$.rejections[0].index").value(2))
+                .andExpect(jsonPath("$.rejections[0].errors[0]").value(
+                        "Unterminated quoted field; the rest of the input was not imported"));
+
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tasks WHERE project_id = ?",
+                Long.class, project.getId()));
+    }
+
+    @Test
+    void ndjsonImportSkipsMalformedRows() throws Exception {
+        String ndjson = """
+                {"title":"One","status":"TODO","priority":"LOW","projectId":%d}
+                {"title":"Two",
+                {"id":5,"title":"Three","status":"IN_PROGRESS","priority":"HIGH","projectName":"ignored"}
+
+                {"title":"Four","status":"TODO","priority":"LOW","projectId":999999}
+                """.formatted(project.getId());
+
+        mockMvc.perform(post("/api/tasks/import")
+                        .header("Authorization", token)
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accepted").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rejections[0].index").value(2))
+                .andExpect(jsonPath("$.rejections[1].index").value(4))
+                .andExpect(jsonPath("$.rejections[1].outcome").value("NOT_FOUND"));
+    }
+
+    @Test
+    void projectDeletedMidImportRejectsOnlyItsRows() throws IOException {
+        Long projectId = project.getId();
+        String firstChunk = """
+                {"title":"A","status":"TODO","priority":"LOW","projectId":%d}
+                {"title":"B","status":"TODO","priority":"LOW","projectId":%d}
+                """.formatted(projectId, projectId);
+        String secondChunk = """
+                {"title":"C","status":"TODO","priority":"LOW","projectId":%d}
+                {"title":"D","status":"TODO","priority":"LOW"}
+                """.formatted(projectId);
+
+        // The project (already looked up for the first chunk) is deleted before the second is read
+        InputStream deletingStream = new ByteArrayInputStream(secondChunk.getBytes(StandardCharsets.UTF_8)) {
+            private boolean deleted;
+
+            @Override
+            public synchronized int read(byte[] buffer, int offset, int length) {
+                if (!deleted) {
+                    deleted = true;
+                    jdbcTemplate.update("DELETE FROM tasks WHERE project_id = ?", projectId);
+                    jdbcTemplate.update("DELETE FROM projects WHERE id = ?", projectId);
+                }
+                return super.read(buffer, offset, length);
+            }
+        };
+        InputStream body = new SequenceInputStream(
+                new ByteArrayInputStream(firstChunk.getBytes(StandardCharsets.UTF_8)), deletingStream);
+
+        ImportSummary summary = taskImportService.importTasks(body, TaskImportService.Format.NDJSON);
+
+        assertEquals(3, summary.getAccepted());
+        assertEquals(1, summary.getRejected());
+        BatchItemResult rejection = summary.getRejections().get(0);
+        assertEquals(3, rejection.getIndex());
+        assertEquals(BatchItemResult.Outcome.NOT_FOUND, rejection.getOutcome());
+        assertFalse(projectRepository.existsById(projectId));
+    }
+}
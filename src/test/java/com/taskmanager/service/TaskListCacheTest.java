@@ -0,0 +1,228 @@
+package com.taskmanager.service;
+
+import com.taskmanager.event.TaskChangedEvent;
+import com.taskmanager.model.Priority;
+import com.taskmanager.model.Project;
+import com.taskmanager.model.Status;
+import com.taskmanager.model.Task;
+import com.taskmanager.repository.ProjectRepository;
+import com.taskmanager.repository.TaskRepository;
+import com.taskmanager.security.JwtUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Cached task listings: repeated pages cost no SQL, and a write through the API invalidates
+// the listings of the projects it touched - and only those.
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "app.task-list-cache.enabled=true"
+})
+@AutoConfigureMockMvc
+class TaskListCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TaskListCache taskListCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private String token;
+    private Project first;
+    private Project second;
+
+    @BeforeEach
+    void setUp() {
+        // Rows are removed behind the cache's back, so start from an empty cache
+        taskRepository.deleteAllInBatch();
+        projectRepository.deleteAllInBatch();
+        taskListCache.invalidateAll();
+
+        first = projectRepository.save(new Project("First", null));
+        second = projectRepository.save(new Project("Second", null));
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Task task = new Task("Task " + i, null, Priority.MEDIUM, Status.TODO);
+            task.setProject(i % 2 == 0 ? first : second);
+            tasks.add(task);
+        }
+        taskRepository.saveAll(tasks);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        token = "Bearer " + jwtUtil.generateToken("list-cache-test");
+    }
+
+    @Test
+    void repeatedListingIsServedWithoutSql() throws Exception {
+        list("/api/tasks?projectId=" + first.getId());
+
+        statistics.clear();
+        list("/api/tasks?projectId=" + first.getId())
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.content[0].project.name").value("First"));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void createInvalidatesOnlyItsProjectAndUnfilteredListings() throws Exception {
+        list("/api/tasks?projectId=" + first.getId());
+        list("/api/tasks?projectId=" + second.getId());
+        list("/api/tasks?size=100");
+
+        mockMvc.perform(post("/api/tasks")
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Created\",\"priority\":\"HIGH\",\"status\":\"TODO\",\"projectId\":"
+                                + first.getId() + "}"))
+                .andExpect(status().isCreated());
+
+        list("/api/tasks?projectId=" + first.getId())
+                .andExpect(jsonPath("$.content[*].title", hasItem("Created")));
+        list("/api/tasks?size=100")
+                .andExpect(jsonPath("$.content[*].title", hasItem("Created")));
+
+        statistics.clear();
+        list("/api/tasks?projectId=" + second.getId())
+                .andExpect(jsonPath("$.totalElements").value(5));
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void updateAndDeleteAreVisibleInTheNextListing() throws Exception {
+        Task task = taskRepository.findAll().stream()
+                .filter(t -> t.getProject().getId().equals(first.getId())).findFirst().orElseThrow();
+        list("/api/tasks?projectId=" + first.getId());
+        list("/api/tasks?projectId=" + second.getId());
+
+        // Moving the task changes both projects' listings
+        mockMvc.perform(put("/api/tasks/" + task.getId())
+                        .header("Authorization", token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"Moved\",\"priority\":\"LOW\",\"status\":\"DONE\",\"projectId\":"
+                                + second.getId() + "}"))
+                .andExpect(status().isOk());
+
+        list("/api/tasks?projectId=" + first.getId())
+                .andExpect(jsonPath("$.content[*].id", not(hasItem(task.getId().intValue()))));
+        list("/api/tasks?projectId=" + second.getId())
+                .andExpect(jsonPath("$.content[*].title", hasItem("Moved")));
+
+        mockMvc.perform(delete("/api/tasks/" + task.getId()).header("Authorization", token))
+                .andExpect(status().isNoContent());
+
+        list("/api/tasks?projectId=" + second.getId())
+                .andExpect(jsonPath("$.totalElements").value(5))
+                .andExpect(jsonPath("$.content[*].title", not(hasItem("Moved"))));
+    }
+
+    @Test
+    void concurrentMissesShareOneQuery() throws Exception {
+        AtomicInteger queries = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<Task> result = new PageImpl<>(List.of(), pageable, 0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Page<Task>>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return taskListCache.getPage(Status.DONE, Priority.HIGH, null, pageable, () -> {
+                        queries.incrementAndGet();
+                        sleep(200);
+                        return result;
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<Page<Task>> future : futures) {
+                assertEquals(0, future.get().getTotalElements());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(1, queries.get());
+    }
+
+    @Test
+    void changeDuringALoadIsNotOverwrittenByTheLoadedCopy() {
+        Long id = taskRepository.findAll().get(0).getId();
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // A slow load reads the task; meanwhile the task changes and a newer load caches it
+        taskListCache.getPage(null, null, null, pageable, () -> {
+            List<Task> stale = taskRepository.findByIdIn(List.of(id));
+            Task changed = taskRepository.findById(id).orElseThrow();
+            changed.setTitle("Changed");
+            taskRepository.save(changed);
+            taskListCache.onTaskChanged(TaskChangedEvent.contentUpdated(id));
+            taskListCache.getPage(null, null, null, pageable,
+                    () -> new PageImpl<>(taskRepository.findByIdIn(List.of(id)), pageable, 1));
+            return new PageImpl<>(stale, pageable, 1);
+        });
+
+        Page<Task> cached = taskListCache.getPage(null, null, null, pageable, () -> {
+            throw new AssertionError("listing should be cached");
+        });
+        assertEquals("Changed", cached.getContent().get(0).getTitle());
+    }
+
+    private ResultActions list(String url) throws Exception {
+        return mockMvc.perform(get(url).header("Authorization", token))
+                .andExpect(status().isOk());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.taskmanager.service;
+
+import com.taskmanager.exception.BadRequestException;
+import com.taskmanager.security.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Search cursors carry (rank, id) exactly, so ties on rank still page correctly; without
+// PostgreSQL (H2 here) the endpoint answers 501 instead of failing on the tsvector SQL.
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskSearchServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void cursorRoundTripsRankAndIdExactly() {
+        float[] ranks = {0f, 0.0607927f, 0.09910321f, Float.MIN_VALUE, 1e-20f, 0.1f + 0.2f};
+        for (float rank : ranks) {
+            TaskSearchService.Position position = TaskSearchService.decode(TaskSearchService.encode(rank, 1234L));
+
+            // Bit-for-bit, so "rank = :rank" matches the tied rows the cursor stopped in
+            assertEquals(Float.floatToIntBits(rank), Float.floatToIntBits(position.rank()));
+            assertEquals(1234L, position.id());
+        }
+    }
+
+    @Test
+    void blankCursorIsTheFirstPage() {
+        assertNull(TaskSearchService.decode(null));
+        assertNull(TaskSearchService.decode(" "));
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        String listCursor = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("v1\nid\nASC\n5\n".getBytes(StandardCharsets.UTF_8));
+        String badRank = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("s1\nhigh\n5".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(BadRequestException.class, () -> TaskSearchService.decode("%%%"));
+        assertThrows(BadRequestException.class, () -> TaskSearchService.decode(listCursor));
+        assertThrows(BadRequestException.class, () -> TaskSearchService.decode(badRank));
+    }
+
+    @Test
+    void searchWithoutPostgresAnswers501() throws Exception {
+        mockMvc.perform(get("/api/tasks/search")
+                        .header("Authorization", "Bearer " + jwtUtil.generateToken("search-test"))
+                        .param("q", "login bug"))
+                .andExpect(status().isNotImplemented())
+                .andExpect(jsonPath("$.messages[0]").value("Search requires PostgreSQL"));
+    }
+}